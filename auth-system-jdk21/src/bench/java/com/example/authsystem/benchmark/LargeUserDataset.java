@@ -0,0 +1,88 @@
+package com.example.authsystem.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Deterministic synthetic users bulk-loaded with INSERT ... SELECT over H2's SYSTEM_RANGE, so rows are
+// generated inside the database instead of going through JDBC batches. User n has id n, email
+// user<n>@bench.example and a created_at spread evenly over SPAN. A database file that already
+// holds the requested number of users is reused as is.
+final class LargeUserDataset {
+
+    static final String EMAIL_DOMAIN = "bench.example";
+    static final String PASSWORD = "benchmark-password";
+
+    private static final LocalDateTime FIRST_CREATED = LocalDateTime.of(2022, 1, 1, 0, 0);
+    private static final Duration SPAN = Duration.ofDays(3 * 365);
+    private static final DateTimeFormatter SQL_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long CHUNK = 1_000_000;
+
+    // 1 in 1000 users is an admin, 1 in 50 disabled, 1 in 200 locked, 1 in 100 has revoked tokens
+    private static final String INSERT_CHUNK = """
+            insert into users (id, first_name, last_name, email, password, role, is_enabled,
+                               account_non_expired, account_non_locked, credentials_non_expired,
+                               created_at, updated_at, last_login, token_version)
+            select x,
+                   'First' || mod(x, 5000),
+                   'Last' || mod(x / 5000, 20000),
+                   'user' || x || '@bench.example',
+                   ?,
+                   case when mod(x, 1000) = 0 then 'ADMIN' else 'USER' end,
+                   mod(x, 50) <> 0,
+                   true,
+                   mod(x, 200) <> 0,
+                   true,
+                   dateadd(second, (x - 1) * ? / ?, timestamp '2022-01-01 00:00:00'),
+                   dateadd(second, (x - 1) * ? / ?, timestamp '2022-01-01 00:00:00'),
+                   null,
+                   case when mod(x, 100) = 0 then 1 else 0 end
+            from system_range(?, ?)
+            """;
+
+    private LargeUserDataset() {
+    }
+
+    static String email(long n) {
+        return "user" + n + "@" + EMAIL_DOMAIN;
+    }
+
+    static String sqlTimestamp(long n, long users) {
+        return "timestamp '" + FIRST_CREATED.plusSeconds(SPAN.toSeconds() * (n - 1) / users).format(SQL_TIMESTAMP) + "'";
+    }
+
+    static void ensureLoaded(JdbcTemplate jdbc, long users, String passwordHash) {
+        Long existing = jdbc.queryForObject("select count(*) from users", Long.class);
+        if (existing != null && existing == users) {
+            System.out.printf("%n[dataset] reusing %,d users%n", users);
+            return;
+        }
+        if (existing != null && existing > 0) {
+            jdbc.execute("truncate table user_change_log restart identity");
+            jdbc.execute("truncate table users restart identity");
+        }
+
+        // Secondary indexes are rebuilt once at the end instead of maintained row by row;
+        // the unique constraint on email stays, it is part of what the load has to pay for
+        long start = System.nanoTime();
+        jdbc.execute("drop index if exists idx_user_email");
+        jdbc.execute("drop index if exists idx_user_created_at");
+        long span = SPAN.toSeconds();
+        for (long from = 1; from <= users; from += CHUNK) {
+            long to = Math.min(users, from + CHUNK - 1);
+            jdbc.update(INSERT_CHUNK, passwordHash, span, users, span, users, from, to);
+            System.out.printf("[dataset] %,d / %,d users loaded%n", to, users);
+        }
+        long loaded = System.nanoTime();
+        jdbc.execute("create index idx_user_email on users(email)");
+        jdbc.execute("create index idx_user_created_at on users(created_at)");
+        jdbc.execute("alter table users alter column id restart with " + (users + 1));
+        jdbc.execute("analyze");
+        jdbc.execute("checkpoint sync");
+
+        System.out.printf("[dataset] %,d users: insert %s, indexes + analyze %s%n", users,
+                Duration.ofNanos(loaded - start), Duration.ofNanos(System.nanoTime() - loaded));
+    }
+}
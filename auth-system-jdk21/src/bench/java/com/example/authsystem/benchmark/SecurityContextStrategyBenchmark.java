@@ -0,0 +1,102 @@
+package com.example.authsystem.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+
+import com.example.authsystem.config.ScopedValueSecurityContextHolderStrategy;
+import com.example.authsystem.filter.PermissionAuthenticationToken;
+
+// Per-request security context cost, default ThreadLocal strategy vs the ScopedValue one
+// (app.security.context-strategy). A "request" mirrors what the servlet chain does: deferred
+// load, JwtAuthenticationFilter setting the authentication, a few reads from authorization and
+// the controller, clear at the end. onVirtualThread runs each request on a new virtual thread,
+// as Tomcat does with spring.threads.virtual.enabled; onCurrentThread isolates the strategy itself.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SecurityContextStrategyBenchmark {
+
+    private static final int READS_PER_REQUEST = 4;
+
+    @Param({"threadlocal", "scoped-value"})
+    public String strategy;
+
+    private SecurityContextHolderStrategy holder;
+    private PermissionAuthenticationToken authentication;
+
+    @Setup
+    public void setUp() {
+        holder = switch (strategy) {
+            case "scoped-value" -> new ScopedValueSecurityContextHolderStrategy();
+            default -> {
+                // The default strategy class is package-private; obtain it the way Spring does
+                SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_THREADLOCAL);
+                yield SecurityContextHolder.getContextHolderStrategy();
+            }
+        };
+        authentication = new PermissionAuthenticationToken(
+                "jane.doe@example.com", List.of(new SimpleGrantedAuthority("ROLE_USER")), 3);
+    }
+
+    @Benchmark
+    public Object onCurrentThread() throws Exception {
+        return inRequestScope();
+    }
+
+    @Benchmark
+    public Object onVirtualThread() throws Exception {
+        Object[] result = new Object[1];
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try {
+                result[0] = inRequestScope();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.join();
+        return result[0];
+    }
+
+    // ScopedSecurityContextFilter binds the scope only in scoped-value mode
+    private Object inRequestScope() throws Exception {
+        return holder instanceof ScopedValueSecurityContextHolderStrategy
+                ? ScopedValueSecurityContextHolderStrategy.callInNewScope(this::request)
+                : request();
+    }
+
+    private Object request() {
+        try {
+            holder.setDeferredContext(holder::createEmptyContext);
+            SecurityContext context = holder.createEmptyContext();
+            context.setAuthentication(authentication);
+            holder.setContext(context);
+
+            Object principal = null;
+            for (int i = 0; i < READS_PER_REQUEST; i++) {
+                principal = holder.getContext().getAuthentication().getPrincipal();
+            }
+            return principal;
+        } finally {
+            holder.clearContext();
+        }
+    }
+}
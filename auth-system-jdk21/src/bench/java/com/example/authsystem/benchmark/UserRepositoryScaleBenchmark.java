@@ -0,0 +1,165 @@
+package com.example.authsystem.benchmark;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.authsystem.AuthSystemApplication;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.repository.UserRepository;
+import com.example.authsystem.service.UserService;
+
+// Repository and service latency against a file-backed H2 database holding userCount synthetic users
+// (see LargeUserDataset), with concurrent callers sharing the regular Hikari pool. SampleTime reports
+// the latency distribution per operation; setup prints the plans of the statements behind them.
+// Run through scripts/large-dataset-benchmark.sh to pick sizes and thread counts.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx4g"})
+public class UserRepositoryScaleBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1000000"})
+    public long userCount;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserService userService;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private SplittableRandom random;
+
+        // Seeded by thread index so reruns issue the same key sequence
+        @Setup
+        public void setUp(ThreadParams threadParams) {
+            random = new SplittableRandom(threadParams.getThreadIndex());
+        }
+
+        long nextUser(long users) {
+            return random.nextLong(1, users + 1);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Path dataDir = Path.of(System.getProperty("bench.data-dir", "target/bench-data")).toAbsolutePath();
+        // Command-line arguments, so they take precedence over application.properties
+        context = new SpringApplicationBuilder(AuthSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("users-" + userCount),
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.datasource.hikari.leak-detection-threshold=0",
+                        "--app.search-index.rebuild-on-startup=false",
+                        "--app.warmup.enabled=false",
+                        "--app.grpc.enabled=false",
+                        "--logging.level.com.example.authsystem=INFO",
+                        "--logging.level.org.springframework.security=WARN"
+                );
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        LargeUserDataset.ensureLoaded(jdbc, userCount, context.getBean(PasswordEncoder.class).encode(LargeUserDataset.PASSWORD));
+        printQueryPlans(jdbc);
+
+        userRepository = context.getBean(UserRepository.class);
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<User> repositoryFindByEmail(Cursor cursor) {
+        return userRepository.findByEmail(LargeUserDataset.email(cursor.nextUser(userCount)));
+    }
+
+    @Benchmark
+    public boolean repositoryExistsByEmailMiss(Cursor cursor) {
+        return userRepository.existsByEmail("missing" + cursor.nextUser(userCount) + "@" + LargeUserDataset.EMAIL_DOMAIN);
+    }
+
+    @Benchmark
+    public Optional<User> repositoryFindById(Cursor cursor) {
+        return userRepository.findById(cursor.nextUser(userCount));
+    }
+
+    // Uniformly random pages, so most requests pay for a deep OFFSET plus the count query
+    @Benchmark
+    public Page<User> repositoryFindAllPage(Cursor cursor) {
+        int page = (int) ((cursor.nextUser(userCount) - 1) / PAGE_SIZE);
+        return userRepository.findAll(PageRequest.of(page, PAGE_SIZE, Sort.by("createdAt")));
+    }
+
+    // Login lookup as the application does it (shard routing, SingleFlight, JFR event)
+    @Benchmark
+    public Optional<User> serviceFindByEmail(Cursor cursor) {
+        return userService.findByEmail(LargeUserDataset.email(cursor.nextUser(userCount)));
+    }
+
+    @Benchmark
+    public void serviceRecordLogin(Cursor cursor) {
+        userService.recordLogin(cursor.nextUser(userCount));
+    }
+
+    // EXPLAIN ANALYZE executes the statement and reports the index used and rows scanned
+    private void printQueryPlans(JdbcTemplate jdbc) {
+        long middle = userCount / 2;
+        var statements = new LinkedHashMap<String, String>();
+        statements.put("findByEmail", "select * from users where email = '" + LargeUserDataset.email(middle) + "'");
+        statements.put("existsByEmail (miss)",
+                "select id from users where email = 'missing@" + LargeUserDataset.EMAIL_DOMAIN + "' fetch first 1 rows only");
+        statements.put("findById", "select * from users where id = " + middle);
+        statements.put("findAll page (middle)",
+                "select * from users order by created_at offset " + middle + " rows fetch next " + PAGE_SIZE + " rows only");
+        statements.put("findAll count", "select count(*) from users");
+        statements.put("bulk filter createdBefore",
+                "select count(*) from users where created_at < " + LargeUserDataset.sqlTimestamp(userCount / 10, userCount));
+        statements.put("bulk filter emailDomain",
+                "select count(*) from users where lower(email) like '%@" + LargeUserDataset.EMAIL_DOMAIN + "'");
+        statements.put("token version seed", "select id, token_version from users where token_version > 0");
+
+        statements.forEach((name, sql) -> {
+            long start = System.nanoTime();
+            List<String> plan = jdbc.queryForList("explain analyze " + sql, String.class);
+            System.out.printf("%n[plan] %s (%d ms)%n%s%n", name,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), String.join("\n", plan));
+        });
+    }
+}
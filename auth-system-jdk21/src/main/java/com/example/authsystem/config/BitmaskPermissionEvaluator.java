@@ -0,0 +1,66 @@
+package com.example.authsystem.config;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.example.authsystem.entity.Permission;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.filter.PermissionAuthenticationToken;
+
+// Backs hasPermission(...) in @PreAuthorize: one AND against the token's permission bitmask
+@Component
+public class BitmaskPermissionEvaluator implements PermissionEvaluator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BitmaskPermissionEvaluator.class);
+    // Names already warned about; expressions use literals, so this stays as small as the set of typos
+    private static final Set<String> unknownPermissions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        return check(authentication, permission);
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        return check(authentication, permission);
+    }
+
+    // Unknown names deny instead of throwing, so a typo in an expression is a 403 rather than a 500
+    private static boolean check(Authentication authentication, Object permission) {
+        Permission required = switch (permission) {
+            case Permission p -> p;
+            case String name -> resolve(name);
+            case null, default -> {
+                logger.warn("Unsupported permission {} in hasPermission, denying", permission);
+                yield null;
+            }
+        };
+        return required != null && (permissionsOf(authentication) & required.mask()) == required.mask();
+    }
+
+    private static Permission resolve(String name) {
+        try {
+            return Permission.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            if (unknownPermissions.add(name)) {
+                logger.warn("Unknown permission '{}' in hasPermission, denying", name);
+            }
+            return null;
+        }
+    }
+
+    private static int permissionsOf(Authentication authentication) {
+        return switch (authentication) {
+            case PermissionAuthenticationToken token -> token.getPermissions();
+            case Authentication auth when auth.getPrincipal() instanceof User user -> user.getRole().getPermissions();
+            case null, default -> 0;
+        };
+    }
+}
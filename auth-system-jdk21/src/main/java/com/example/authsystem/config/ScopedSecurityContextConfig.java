@@ -0,0 +1,35 @@
+package com.example.authsystem.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+
+import com.example.authsystem.filter.ScopedSecurityContextFilter;
+
+// app.security.context-strategy=scoped-value: request security contexts live in a ScopedValue
+// binding instead of the default ThreadLocal (see SecurityContextStrategyBenchmark)
+@Configuration
+@ConditionalOnProperty(name = "app.security.context-strategy", havingValue = "scoped-value")
+public class ScopedSecurityContextConfig {
+
+    // Installed globally for static SecurityContextHolder callers (JwtAuthenticationFilter) and
+    // published as a bean, which Spring Security's own filters and method security pick up
+    @Bean
+    public static SecurityContextHolderStrategy securityContextHolderStrategy() {
+        var strategy = new ScopedValueSecurityContextHolderStrategy();
+        SecurityContextHolder.setContextHolderStrategy(strategy);
+        return strategy;
+    }
+
+    // Outermost servlet filter, so the whole Spring Security chain runs inside the binding
+    @Bean
+    public FilterRegistrationBean<ScopedSecurityContextFilter> scopedSecurityContextFilter() {
+        var registration = new FilterRegistrationBean<>(new ScopedSecurityContextFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
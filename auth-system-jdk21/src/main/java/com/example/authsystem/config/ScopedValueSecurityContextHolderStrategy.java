@@ -0,0 +1,99 @@
+package com.example.authsystem.config;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.Assert;
+
+// SecurityContextHolderStrategy backed by a ScopedValue (JDK 21 preview) that ScopedSecurityContextFilter
+// binds for each request's dynamic extent. The binding holds a mutable slot because Spring Security
+// replaces and clears the context during the chain; the slot is unreachable once the scope exits, so a
+// context cannot leak to whatever runs next on the thread. Work outside any request scope (startup,
+// schedulers, gRPC) falls back to a ThreadLocal, like the default strategy.
+public final class ScopedValueSecurityContextHolderStrategy implements SecurityContextHolderStrategy {
+
+    private static final ScopedValue<Slot> CURRENT = ScopedValue.newInstance();
+
+    private final ThreadLocal<Slot> fallback = new ThreadLocal<>();
+
+    // Runs op with a fresh, empty context slot bound; StructuredTaskScope forks inherit the binding
+    public static <T> T callInNewScope(Callable<T> op) throws Exception {
+        return ScopedValue.where(CURRENT, new Slot()).call(op);
+    }
+
+    @Override
+    public void clearContext() {
+        if (CURRENT.isBound()) {
+            CURRENT.get().clear();
+        } else {
+            fallback.remove();
+        }
+    }
+
+    @Override
+    public SecurityContext getContext() {
+        return slot().resolve();
+    }
+
+    @Override
+    public Supplier<SecurityContext> getDeferredContext() {
+        return slot()::resolve;
+    }
+
+    @Override
+    public void setContext(SecurityContext context) {
+        Assert.notNull(context, "Only non-null SecurityContext instances are permitted");
+        Slot slot = slot();
+        slot.context = context;
+        slot.deferred = null;
+    }
+
+    @Override
+    public void setDeferredContext(Supplier<SecurityContext> deferredContext) {
+        Assert.notNull(deferredContext, "Only non-null Supplier instances are permitted");
+        Slot slot = slot();
+        slot.context = null;
+        slot.deferred = deferredContext;
+    }
+
+    @Override
+    public SecurityContext createEmptyContext() {
+        return new SecurityContextImpl();
+    }
+
+    private Slot slot() {
+        if (CURRENT.isBound()) {
+            return CURRENT.get();
+        }
+        Slot slot = fallback.get();
+        if (slot == null) {
+            slot = new Slot();
+            fallback.set(slot);
+        }
+        return slot;
+    }
+
+    // Only the request thread writes; forks see the writes made before they were started
+    private static final class Slot {
+
+        private SecurityContext context;
+        private Supplier<SecurityContext> deferred;
+
+        SecurityContext resolve() {
+            if (context == null) {
+                SecurityContext supplied = deferred != null ? deferred.get() : null;
+                context = supplied != null ? supplied : new SecurityContextImpl();
+                deferred = null;
+            }
+            return context;
+        }
+
+        void clear() {
+            context = null;
+            deferred = null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.authsystem.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+import com.example.authsystem.filter.JwtAuthenticationFilter;
+import com.example.authsystem.service.AuthService;
+import com.example.authsystem.service.JwtService;
+import com.example.authsystem.service.UserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Configuration
+public class StartupConfig {
+
+    // With spring.main.lazy-initialization=true the login/token path stays eager,
+    // so the first /api/auth request does not pay for Hibernate or security bootstrap
+    @Bean
+    public static LazyInitializationExcludeFilter authCriticalBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                SecurityFilterChain.class,
+                JwtAuthenticationFilter.class,
+                PasswordEncoder.class,
+                AuthService.class,
+                JwtService.class,
+                UserService.class,
+                DataSource.class,
+                EntityManagerFactory.class
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.authsystem.controller;
+
+import com.example.authsystem.dto.ServiceAccountCredentials;
+import com.example.authsystem.dto.ServiceAccountRequest;
+import com.example.authsystem.service.ServiceAccountService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/service-accounts")
+@Tag(name = "Service account administration", description = "Admin-only management of client_credentials clients")
+public class AdminServiceAccountController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminServiceAccountController.class);
+
+    private final ServiceAccountService serviceAccountService;
+
+    public AdminServiceAccountController(ServiceAccountService serviceAccountService) {
+        this.serviceAccountService = serviceAccountService;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasPermission(null, 'MANAGE_USERS')")
+    @Operation(summary = "Create service account", description = "Register a client; the generated secret is only shown in this response")
+    @ApiResponse(responseCode = "201", description = "Service account created")
+    public ResponseEntity<ServiceAccountCredentials> create(@Valid @RequestBody ServiceAccountRequest request) {
+        logger.info("Service account creation requested: {} with scopes {}", request.name(), request.scopes());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(serviceAccountService.create(request.name(), request.scopes()));
+    }
+
+    @DeleteMapping("/{clientId}")
+    @PreAuthorize("hasPermission(null, 'MANAGE_USERS')")
+    @Operation(summary = "Disable service account", description = "Stop issuing tokens to a client and reject its outstanding ones")
+    @ApiResponse(responseCode = "200", description = "Service account disabled")
+    @ApiResponse(responseCode = "404", description = "Unknown client id")
+    public ResponseEntity<ServiceAccountCredentials> disable(@PathVariable String clientId) {
+        logger.info("Service account disable requested: {}", clientId);
+
+        return ResponseEntity.ok(serviceAccountService.disable(clientId));
+    }
+}
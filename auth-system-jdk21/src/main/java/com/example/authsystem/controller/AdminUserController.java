@@ -0,0 +1,119 @@
+package com.example.authsystem.controller;
+
+import com.example.authsystem.dto.AuthResponse;
+import com.example.authsystem.dto.BulkOperationStatus;
+import com.example.authsystem.dto.BulkUserDeleteRequest;
+import com.example.authsystem.dto.BulkUserUpdateRequest;
+import com.example.authsystem.dto.UserStatsResponse;
+import com.example.authsystem.entity.Role;
+import com.example.authsystem.service.UserBulkService;
+import com.example.authsystem.service.UserService;
+import com.example.authsystem.service.UserStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@Tag(name = "User administration", description = "Admin-only user management APIs")
+public class AdminUserController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdminUserController.class);
+    
+    private static final int MAX_SEARCH_RESULTS = 100;
+    
+    private final UserService userService;
+    private final UserBulkService userBulkService;
+    private final UserStatistics userStatistics;
+    
+    public AdminUserController(UserService userService, UserBulkService userBulkService, UserStatistics userStatistics) {
+        this.userService = userService;
+        this.userBulkService = userBulkService;
+        this.userStatistics = userStatistics;
+    }
+    
+    @GetMapping("/search")
+    @PreAuthorize("hasPermission(null, 'READ_USERS')")
+    @Operation(summary = "Search users", description = "Prefix search over email, first name and last name")
+    @ApiResponse(responseCode = "200", description = "Top matches in index order")
+    public ResponseEntity<List<AuthResponse.UserInfo>> search(
+            @RequestParam("q") String query,
+            @RequestParam(name = "limit", defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(userService.search(query, Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS)));
+    }
+    
+    @GetMapping("/stats")
+    @PreAuthorize("hasPermission(null, 'VIEW_METRICS')")
+    @Operation(summary = "User statistics", description = "Counts by role and state plus hourly signups and logins, served from memory")
+    @ApiResponse(responseCode = "200", description = "Current statistics snapshot")
+    public ResponseEntity<UserStatsResponse> stats() {
+        return ResponseEntity.ok(userStatistics.snapshot());
+    }
+    
+    @PutMapping("/{id}/role")
+    @PreAuthorize("hasPermission(null, 'MANAGE_USERS')")
+    @Operation(summary = "Change role", description = "Change a user's role and revoke their issued tokens")
+    @ApiResponse(responseCode = "200", description = "Role changed")
+    public ResponseEntity<AuthResponse.UserInfo> changeRole(@PathVariable Long id, @Valid @RequestBody RoleChangeRequest request) {
+        logger.info("Role change to {} requested for user id: {}", request.role(), id);
+        
+        return ResponseEntity.ok(AuthResponse.UserInfo.from(userService.changeRole(id, request.role())));
+    }
+    
+    @PutMapping("/{id}/enabled")
+    @PreAuthorize("hasPermission(null, 'MANAGE_USERS')")
+    @Operation(summary = "Enable or disable account", description = "Toggle an account and revoke its issued tokens")
+    @ApiResponse(responseCode = "200", description = "Account updated")
+    public ResponseEntity<AuthResponse.UserInfo> setEnabled(@PathVariable Long id, @Valid @RequestBody EnabledChangeRequest request) {
+        logger.info("Enabled={} requested for user id: {}", request.enabled(), id);
+        
+        return ResponseEntity.ok(AuthResponse.UserInfo.from(userService.setEnabled(id, request.enabled())));
+    }
+    
+    @PostMapping("/bulk/update")
+    @PreAuthorize("hasPermission(null, 'MANAGE_USERS')")
+    @Operation(summary = "Bulk update", description = "Change role, enabled or lock state for an id list or filter, in chunks")
+    @ApiResponse(responseCode = "202", description = "Bulk job accepted; poll its status for progress")
+    public ResponseEntity<BulkOperationStatus> bulkUpdate(@Valid @RequestBody BulkUserUpdateRequest request) {
+        logger.info("Bulk update requested: role={}, enabled={}, accountNonLocked={}",
+                request.role(), request.enabled(), request.accountNonLocked());
+        
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(userBulkService.submitUpdate(request));
+    }
+    
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("hasPermission(null, 'DELETE_USERS')")
+    @Operation(summary = "Bulk delete", description = "Delete users by id list or filter, in chunks")
+    @ApiResponse(responseCode = "202", description = "Bulk job accepted; poll its status for progress")
+    public ResponseEntity<BulkOperationStatus> bulkDelete(@Valid @RequestBody BulkUserDeleteRequest request) {
+        logger.info("Bulk delete requested");
+        
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(userBulkService.submitDelete(request));
+    }
+    
+    @GetMapping("/bulk/{jobId}")
+    @PreAuthorize("hasPermission(null, 'READ_USERS')")
+    @Operation(summary = "Bulk job status", description = "Progress of a bulk update or delete")
+    @ApiResponse(responseCode = "200", description = "Current job status")
+    @ApiResponse(responseCode = "404", description = "Unknown or expired job")
+    public ResponseEntity<BulkOperationStatus> bulkStatus(@PathVariable String jobId) {
+        return userBulkService.status(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    public record RoleChangeRequest(@NotNull(message = "Role is required") Role role) {}
+    
+    public record EnabledChangeRequest(@NotNull(message = "Enabled flag is required") Boolean enabled) {}
+}
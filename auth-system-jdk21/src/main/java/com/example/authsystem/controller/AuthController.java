@@ -0,0 +1,180 @@
+package com.example.authsystem.controller;
+
+import com.example.authsystem.dto.AuthRequest;
+import com.example.authsystem.dto.AuthResponse;
+import com.example.authsystem.dto.ClientCredentialsResponse;
+import com.example.authsystem.dto.LoginRequest;
+import com.example.authsystem.dto.SignUpRequest;
+import com.example.authsystem.exception.OAuthTokenException;
+import com.example.authsystem.service.AuthService;
+import com.example.authsystem.service.IdempotencyCache;
+import com.example.authsystem.service.ServiceAccountService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@RestController
+@RequestMapping("/api/auth")
+@CrossOrigin(origins = "*")
+@Tag(name = "Authentication", description = "Authentication management APIs")
+public class AuthController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+    
+    private static final String CLIENT_CREDENTIALS = "client_credentials";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String BASIC_PREFIX = "Basic ";
+    
+    private final AuthService authService;
+    private final ServiceAccountService serviceAccountService;
+    private final IdempotencyCache idempotencyCache;
+    
+    public AuthController(
+            AuthService authService,
+            ServiceAccountService serviceAccountService,
+            IdempotencyCache idempotencyCache
+    ) {
+        this.authService = authService;
+        this.serviceAccountService = serviceAccountService;
+        this.idempotencyCache = idempotencyCache;
+    }
+    
+    @PostMapping("/signup")
+    @Operation(summary = "Register a new user", description = "Create a new user account")
+    @ApiResponse(responseCode = "201", description = "User registered successfully")
+    @ApiResponse(responseCode = "409", description = "Email already exists")
+    @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different request")
+    public ResponseEntity<AuthResponse> signUp(
+            @Valid @RequestBody SignUpRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        logger.info("Registration request received for email: {}", request.email());
+        
+        AuthResponse response = authenticate(request, idempotencyKey);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    @PostMapping("/login")
+    @Operation(summary = "Authenticate user", description = "Login with email and password")
+    @ApiResponse(responseCode = "200", description = "Login successful")
+    @ApiResponse(responseCode = "401", description = "Invalid credentials")
+    @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different request")
+    public ResponseEntity<AuthResponse> login(
+            @Valid @RequestBody LoginRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        logger.info("Login request received for email: {}", request.email());
+        
+        AuthResponse response = authenticate(request, idempotencyKey);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh access token", description = "Get new access token using refresh token")
+    @ApiResponse(responseCode = "200", description = "Token refreshed successfully")
+    @ApiResponse(responseCode = "401", description = "Invalid refresh token")
+    public ResponseEntity<AuthResponse> refreshToken(@RequestBody RefreshTokenRequest request) {
+        logger.info("Token refresh request received");
+        
+        AuthResponse response = authService.refreshToken(request.refreshToken());
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping(value = "/token", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    @Operation(summary = "Client credentials grant", description = "Issue a scoped access token to a service account")
+    @ApiResponse(responseCode = "200", description = "Token issued (a still-fresh cached token may be returned)")
+    @ApiResponse(responseCode = "400", description = "Unsupported grant type, invalid scope, or client_secret sent in the query string")
+    @ApiResponse(responseCode = "401", description = "Invalid client credentials")
+    public ResponseEntity<ClientCredentialsResponse> token(
+            @RequestParam("grant_type") String grantType,
+            @RequestParam(name = "client_id", required = false) String clientId,
+            @RequestParam(name = "client_secret", required = false) String clientSecret,
+            @RequestParam(name = "scope", required = false) String scope,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            HttpServletRequest request
+    ) {
+        if (!CLIENT_CREDENTIALS.equals(grantType)) {
+            throw OAuthTokenException.unsupportedGrantType();
+        }
+        // @RequestParam also binds query parameters, and a secret in the URI ends up in access logs
+        if (hasQueryParameter(request, "client_secret")) {
+            throw OAuthTokenException.invalidRequest();
+        }
+        // RFC 6749 section 2.3.1: HTTP Basic or form body, never both
+        if (authorization != null && authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            if (clientSecret != null) {
+                throw OAuthTokenException.invalidRequest();
+            }
+            String[] basic = decodeBasic(authorization.substring(BASIC_PREFIX.length()));
+            if (clientId != null && !clientId.equals(basic[0])) {
+                throw OAuthTokenException.invalidRequest();
+            }
+            clientId = basic[0];
+            clientSecret = basic[1];
+        }
+        if (clientId == null || clientSecret == null) {
+            throw OAuthTokenException.invalidClient();
+        }
+        logger.info("Client credentials token request received for client: {}", clientId);
+        
+        // Token responses must not be stored by intermediaries (RFC 6749 section 5.1)
+        return ResponseEntity.ok()
+                .header("Cache-Control", "no-store")
+                .body(serviceAccountService.issueToken(clientId, clientSecret, scope));
+    }
+    
+    private static boolean hasQueryParameter(HttpServletRequest request, String name) {
+        String query = request.getQueryString();
+        if (query == null) {
+            return false;
+        }
+        return UriComponentsBuilder.newInstance().query(query).build().getQueryParams().keySet().stream()
+                .anyMatch(key -> name.equals(URLDecoder.decode(key, StandardCharsets.UTF_8)));
+    }
+    
+    // Credentials are form-urlencoded before being joined with ':' (RFC 6749 section 2.3.1)
+    private static String[] decodeBasic(String encoded) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getDecoder().decode(encoded.strip()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw OAuthTokenException.invalidClient();
+        }
+        int colon = decoded.indexOf(':');
+        if (colon < 0) {
+            throw OAuthTokenException.invalidClient();
+        }
+        return new String[] {
+            URLDecoder.decode(decoded.substring(0, colon), StandardCharsets.UTF_8),
+            URLDecoder.decode(decoded.substring(colon + 1), StandardCharsets.UTF_8)
+        };
+    }
+    
+    // With an Idempotency-Key, retries of the same request get the first response back instead of
+    // repeating BCrypt and the insert (and a spurious 409 on signup)
+    private AuthResponse authenticate(AuthRequest request, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return authService.authenticate(request);
+        }
+        return idempotencyCache.execute(idempotencyKey, request, () -> authService.authenticate(request));
+    }
+    
+    // JDK 21 Record for refresh token request
+    public record RefreshTokenRequest(
+            @jakarta.validation.constraints.NotBlank(message = "Refresh token is required")
+            String refreshToken
+    ) {}
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.example.authsystem.controller;
+
+import com.example.authsystem.dto.AuthResponse;
+import com.example.authsystem.dto.ChangePasswordRequest;
+import com.example.authsystem.dto.UpdateProfileRequest;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.service.AuthService;
+import com.example.authsystem.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneOffset;
+
+@RestController
+@RequestMapping("/api/users")
+@Tag(name = "Users", description = "Current user profile APIs")
+public class UserController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UserController.class);
+    
+    // Clients may keep the profile but must revalidate it with If-None-Match on every use
+    private static final CacheControl PROFILE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    
+    private final UserService userService;
+    private final AuthService authService;
+    
+    public UserController(UserService userService, AuthService authService) {
+        this.userService = userService;
+        this.authService = authService;
+    }
+    
+    @GetMapping("/me")
+    @PreAuthorize("hasPermission(null, 'READ_PROFILE')")
+    @Operation(summary = "Current user profile", description = "Supports conditional GET through If-None-Match")
+    @ApiResponse(responseCode = "200", description = "Profile returned")
+    @ApiResponse(responseCode = "304", description = "Profile unchanged since the supplied ETag")
+    public ResponseEntity<AuthResponse.UserInfo> me(@AuthenticationPrincipal User user, WebRequest request) {
+        // The ETag is built from the principal JwtAuthenticationFilter already loaded for this
+        // request, so a 304 skips serialization and a second lookup, not the filter's own query
+        String eTag = profileETag(user);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(PROFILE_CACHE_CONTROL)
+                .body(AuthResponse.UserInfo.from(user));
+    }
+    
+    @PutMapping("/me")
+    @PreAuthorize("hasPermission(null, 'UPDATE_PROFILE')")
+    @Operation(summary = "Update current user profile", description = "Honours If-Match for lost-update protection")
+    @ApiResponse(responseCode = "200", description = "Profile updated")
+    @ApiResponse(responseCode = "412", description = "Profile changed since the supplied ETag")
+    public ResponseEntity<AuthResponse.UserInfo> updateMe(
+            @AuthenticationPrincipal User user,
+            @RequestHeader(name = "If-Match", required = false) String ifMatch,
+            @Valid @RequestBody UpdateProfileRequest request
+    ) {
+        logger.info("Profile update requested for user: {}", user.getEmail());
+        
+        if (ifMatch != null && !ifMatch.equals("*") && !ifMatch.equals(profileETag(user))) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        
+        User updated = userService.updateProfile(user.getId(), request.firstName(), request.lastName());
+        
+        return ResponseEntity.ok()
+                .eTag(profileETag(updated))
+                .cacheControl(PROFILE_CACHE_CONTROL)
+                .body(AuthResponse.UserInfo.from(updated));
+    }
+    
+    @PutMapping("/me/password")
+    @PreAuthorize("hasPermission(null, 'UPDATE_PROFILE')")
+    @Operation(summary = "Change password", description = "New passwords are checked against the breached-password corpus")
+    @ApiResponse(responseCode = "204", description = "Password changed, existing tokens revoked")
+    @ApiResponse(responseCode = "400", description = "New password invalid or known to be breached")
+    @ApiResponse(responseCode = "401", description = "Current password does not match")
+    public ResponseEntity<Void> changePassword(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody ChangePasswordRequest request
+    ) {
+        authService.changePassword(user, request);
+        return ResponseEntity.noContent().build();
+    }
+    
+    // Strong validator: changes whenever the row is updated (updated_at is maintained by @PreUpdate)
+    static String profileETag(User user) {
+        var updatedAt = user.getUpdatedAt();
+        return "\"" + Long.toHexString(user.getId()) + "-"
+                + Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC)) + "."
+                + Integer.toHexString(updatedAt.getNano()) + "\"";
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.authsystem.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+// JDK 21 Record for immutable DTOs
+public sealed interface AuthRequest permits SignUpRequest, LoginRequest {
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email should be valid")
+    String email();
+
+    @NotBlank(message = "Password is required")
+    String password();
+}
@@ -1,5 +1,6 @@
 package com.example.authsystem.dto;
 
+import com.example.authsystem.entity.User;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
@@ -48,8 +49,18 @@ public record AuthResponse(
         String email,
         String role
     ) {
+        public static UserInfo from(User user) {
+            return new UserInfo(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getRole().name()
+            );
+        }
+        
         public String fullName() {
-            return STR."\{firstName} \{lastName}";
+            return firstName + " " + lastName;
         }
     }
 }
\ No newline at end of file
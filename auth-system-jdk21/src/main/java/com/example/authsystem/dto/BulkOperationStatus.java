@@ -0,0 +1,18 @@
+package com.example.authsystem.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkOperationStatus(
+    String id,
+    String operation,
+    String state,
+    long total,
+    long processed,
+    String error,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.authsystem.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkUserDeleteRequest(
+        List<@NotNull(message = "ids must not contain null") Long> ids,
+        @Valid
+        UserFilter filter
+        ) {
+
+    @AssertTrue(message = "Exactly one of ids or filter is required")
+    public boolean isTargetSpecified() {
+        return (ids != null && !ids.isEmpty()) ^ (filter != null);
+    }
+}
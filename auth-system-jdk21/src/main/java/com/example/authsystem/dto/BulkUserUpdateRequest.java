@@ -0,0 +1,29 @@
+package com.example.authsystem.dto;
+
+import java.util.List;
+
+import com.example.authsystem.entity.Role;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkUserUpdateRequest(
+        List<@NotNull(message = "ids must not contain null") Long> ids,
+        @Valid
+        UserFilter filter,
+        Role role,
+        Boolean enabled,
+        Boolean accountNonLocked
+        ) {
+
+    @AssertTrue(message = "Exactly one of ids or filter is required")
+    public boolean isTargetSpecified() {
+        return (ids != null && !ids.isEmpty()) ^ (filter != null);
+    }
+
+    @AssertTrue(message = "At least one of role, enabled or accountNonLocked is required")
+    public boolean isChangeSpecified() {
+        return role != null || enabled != null || accountNonLocked != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.authsystem.dto;
+
+import com.example.authsystem.validation.NotBreached;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record ChangePasswordRequest(
+        @NotBlank(message = "Current password is required")
+        String currentPassword,
+        @NotBlank(message = "New password is required")
+        @Size(min = 6, max = 100, message = "Password must be between 6 and 100 characters")
+        @NotBreached
+        String newPassword
+        ) {
+
+}
@@ -0,0 +1,19 @@
+package com.example.authsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// RFC 6749 section 5.1 token response for the client_credentials grant
+public record ClientCredentialsResponse(
+        @JsonProperty("access_token")
+        String accessToken,
+        @JsonProperty("token_type")
+        String tokenType,
+        @JsonProperty("expires_in")
+        long expiresIn,
+        String scope
+        ) {
+
+    public static ClientCredentialsResponse bearer(String accessToken, long expiresIn, String scope) {
+        return new ClientCredentialsResponse(accessToken, "Bearer", expiresIn, scope);
+    }
+}
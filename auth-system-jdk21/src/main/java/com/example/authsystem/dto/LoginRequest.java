@@ -0,0 +1,14 @@
+package com.example.authsystem.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+public record LoginRequest(
+        @NotBlank(message = "Email is required")
+        @Email(message = "Email should be valid")
+        String email,
+        @NotBlank(message = "Password is required")
+        String password
+        ) implements AuthRequest {
+
+}
@@ -0,0 +1,15 @@
+package com.example.authsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// The client secret is only ever returned once, when the account is created
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ServiceAccountCredentials(
+        String clientId,
+        String clientSecret,
+        String name,
+        String scope,
+        boolean enabled
+        ) {
+
+}
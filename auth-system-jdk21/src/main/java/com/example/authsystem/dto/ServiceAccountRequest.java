@@ -0,0 +1,19 @@
+package com.example.authsystem.dto;
+
+import java.util.Set;
+
+import com.example.authsystem.entity.Permission;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record ServiceAccountRequest(
+        @NotBlank(message = "Name is required")
+        @Size(max = 100, message = "Name must be less than 100 characters")
+        String name,
+        @NotEmpty(message = "At least one scope is required")
+        Set<Permission> scopes
+        ) {
+
+}
@@ -1,20 +1,11 @@
 package com.example.authsystem.dto;
 
+import com.example.authsystem.validation.NotBreached;
+
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
-// JDK 21 Record for immutable DTOs
-public sealed interface AuthRequest permits SignUpRequest, LoginRequest {
-
-    @NotBlank(message = "Email is required")
-    @Email(message = "Email should be valid")
-    String email();
-
-    @NotBlank(message = "Password is required")
-    String password();
-}
-
 public record SignUpRequest(
         @NotBlank(message = "First name is required")
         @Size(max = 50, message = "First name must be less than 50 characters")
@@ -28,6 +19,7 @@ public record SignUpRequest(
         String email,
         @NotBlank(message = "Password is required")
         @Size(min = 6, max = 100, message = "Password must be between 6 and 100 characters")
+        @NotBreached
         String password
         ) implements AuthRequest {
 
@@ -39,22 +31,7 @@ public record SignUpRequest(
                 && password != null && password.length() >= 6;
     }
 
-    // Full name using string templates
     public String fullName() {
-        return STR.
-
-
-
-    "\{firstName} \{lastName}";
+        return firstName + " " + lastName;
     }
 }
-
-public record LoginRequest(
-        @NotBlank(message = "Email is required")
-        @Email(message = "Email should be valid")
-        String email,
-        @NotBlank(message = "Password is required")
-        String password
-        ) implements AuthRequest {
-
-}
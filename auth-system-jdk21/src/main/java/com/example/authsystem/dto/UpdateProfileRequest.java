@@ -0,0 +1,15 @@
+package com.example.authsystem.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record UpdateProfileRequest(
+        @NotBlank(message = "First name is required")
+        @Size(max = 50, message = "First name must be less than 50 characters")
+        String firstName,
+        @NotBlank(message = "Last name is required")
+        @Size(max = 50, message = "Last name must be less than 50 characters")
+        String lastName
+        ) {
+
+}
@@ -0,0 +1,24 @@
+package com.example.authsystem.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.authsystem.entity.Role;
+
+import jakarta.validation.constraints.AssertTrue;
+
+// Criteria for bulk admin operations; null fields are ignored
+public record UserFilter(
+        Role role,
+        Boolean enabled,
+        Boolean accountNonLocked,
+        String emailDomain,
+        LocalDateTime createdBefore
+        ) {
+
+    // Guards against an empty filter silently matching every user
+    @AssertTrue(message = "At least one filter criterion is required")
+    public boolean isSpecific() {
+        return role != null || enabled != null || accountNonLocked != null
+                || (emailDomain != null && !emailDomain.isBlank()) || createdBefore != null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.authsystem.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.example.authsystem.entity.Role;
+
+// Snapshot of the in-memory user statistics; seededAt is null until the startup scan has run
+public record UserStatsResponse(
+        long totalUsers,
+        Map<Role, Long> usersByRole,
+        long enabledUsers,
+        long disabledUsers,
+        long lockedUsers,
+        List<HourlyCount> signupsPerHour,
+        List<HourlyCount> loginsPerHour,
+        Instant seededAt
+        ) {
+
+    public record HourlyCount(Instant hour, long count) {
+    }
+}
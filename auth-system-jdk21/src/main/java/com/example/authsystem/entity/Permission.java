@@ -0,0 +1,29 @@
+package com.example.authsystem.entity;
+
+public enum Permission {
+    READ_PROFILE,
+    UPDATE_PROFILE,
+    READ_USERS,
+    MANAGE_USERS,
+    DELETE_USERS,
+    VIEW_METRICS;
+
+    // One bit per permission; an int claim holds up to 31 of them
+    private final int mask = 1 << ordinal();
+
+    public int mask() {
+        return mask;
+    }
+
+    public static int maskOf(Permission... permissions) {
+        int mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.mask;
+        }
+        return mask;
+    }
+
+    public static int allMask() {
+        return maskOf(values());
+    }
+}
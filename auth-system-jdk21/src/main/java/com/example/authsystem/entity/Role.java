@@ -0,0 +1,43 @@
+package com.example.authsystem.entity;
+
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public enum Role {
+    USER("User", Permission.maskOf(Permission.READ_PROFILE, Permission.UPDATE_PROFILE)),
+    ADMIN("Administrator", Permission.allMask());
+
+    private final String displayName;
+    private final int permissions;
+    // Interned once per role instead of allocated on every getAuthorities() call
+    private final List<GrantedAuthority> authorities;
+
+    Role(String displayName, int permissions) {
+        this.displayName = displayName;
+        this.permissions = permissions;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + name()));
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public int getPermissions() {
+        return permissions;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    public boolean hasPermission(Permission permission) {
+        return (permissions & permission.mask()) != 0;
+    }
+
+    // A role includes another when it holds every permission of it
+    public boolean includes(Role other) {
+        return (permissions & other.permissions) == other.permissions;
+    }
+}
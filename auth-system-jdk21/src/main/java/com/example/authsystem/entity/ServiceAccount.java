@@ -0,0 +1,122 @@
+package com.example.authsystem.entity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+// Machine client authenticated with the client_credentials grant; its scopes are a Permission bitmask
+@Entity
+@Table(name = "service_accounts")
+public class ServiceAccount implements UserDetails {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_SERVICE"));
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "client_id", unique = true, nullable = false, updatable = false, length = 64)
+    private String clientId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // Hex HMAC-SHA256 of the client secret, see ClientSecretHasher
+    @Column(name = "secret_hash", nullable = false, length = 64)
+    private String secretHash;
+
+    @Column(nullable = false)
+    private int scopes;
+
+    @Column(name = "is_enabled", nullable = false)
+    private boolean enabled = true;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public ServiceAccount() {
+    }
+
+    public ServiceAccount(String clientId, String name, String secretHash, int scopes) {
+        this.clientId = clientId;
+        this.name = name;
+        this.secretHash = secretHash;
+        this.scopes = scopes;
+    }
+
+    // Token subjects are emails for users and client ids (which never contain '@') for service accounts
+    public static boolean isClientSubject(String subject) {
+        return subject.indexOf('@') < 0;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public String getUsername() {
+        return clientId;
+    }
+
+    @Override
+    public String getPassword() {
+        return secretHash;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean hasScopes(int mask) {
+        return (scopes & mask) == mask;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSecretHash() {
+        return secretHash;
+    }
+
+    public int getScopes() {
+        return scopes;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -2,10 +2,8 @@ package com.example.authsystem.entity;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.List;
 
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import jakarta.persistence.Column;
@@ -80,6 +78,10 @@ public class User implements UserDetails {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
 
+    // Bumped whenever previously issued tokens must stop being accepted
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion = 0;
+
     @PrePersist
     protected void onCreate() {
         var now = LocalDateTime.now();
@@ -103,10 +105,26 @@ public class User implements UserDetails {
         this.password = password;
     }
 
+    // Detached field-by-field copy, for handing one loaded row to several independent callers
+    public User copy() {
+        var copy = new User(firstName, lastName, email, password);
+        copy.id = id;
+        copy.role = role;
+        copy.enabled = enabled;
+        copy.accountNonExpired = accountNonExpired;
+        copy.accountNonLocked = accountNonLocked;
+        copy.credentialsNonExpired = credentialsNonExpired;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.lastLogin = lastLogin;
+        copy.tokenVersion = tokenVersion;
+        return copy;
+    }
+
     // UserDetails implementation with JDK 21 enhancements
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        return role.getAuthorities();
     }
 
     @Override
@@ -134,31 +152,23 @@ public class User implements UserDetails {
         return enabled;
     }
 
-    // JDK 21 Pattern Matching for role checking
     public boolean hasRole(Role targetRole) {
-        return switch (this.role) {
-            case ADMIN ->
-                true; // Admin has all roles
-            case USER ->
-                targetRole == Role.USER;
-        };
+        return role.includes(targetRole);
     }
 
-    // // Full name using text blocks (JDK 21 feature)
     public String getFullName() {
-        return STR.
-
-    
-    
-
-    "\{firstName} \{lastName}";
+        return firstName + " " + lastName;
     }
-    
+
     // Update last login time
     public void updateLastLogin() {
         this.lastLogin = LocalDateTime.now();
     }
 
+    public int incrementTokenVersion() {
+        return ++tokenVersion;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -235,4 +245,8 @@ public class User implements UserDetails {
     public LocalDateTime getLastLogin() {
         return lastLogin;
     }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
 }
@@ -0,0 +1,64 @@
+package com.example.authsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+// Append-only feed of token version bumps, polled incrementally by every node
+@Entity
+@Table(name = "user_change_log", indexes = {
+    @Index(name = "idx_user_change_log_changed_at", columnList = "changed_at")
+})
+public class UserChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "token_version", nullable = false, updatable = false)
+    private int tokenVersion;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        changedAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public UserChangeLog() {
+    }
+
+    public UserChangeLog(Long userId, int tokenVersion) {
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
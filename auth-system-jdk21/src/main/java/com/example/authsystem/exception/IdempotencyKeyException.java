@@ -0,0 +1,27 @@
+package com.example.authsystem.exception;
+
+import org.springframework.http.HttpStatus;
+
+// Idempotency-Key header that cannot be honored: malformed, or reused for a different request
+public class IdempotencyKeyException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public IdempotencyKeyException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+
+    public static IdempotencyKeyException invalid() {
+        return new IdempotencyKeyException("Idempotency-Key must be 1 to 255 characters", HttpStatus.BAD_REQUEST);
+    }
+
+    public static IdempotencyKeyException reused() {
+        return new IdempotencyKeyException("Idempotency-Key was already used for a different request",
+                HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
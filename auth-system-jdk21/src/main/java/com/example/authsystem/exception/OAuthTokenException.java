@@ -0,0 +1,34 @@
+package com.example.authsystem.exception;
+
+import org.springframework.http.HttpStatus;
+
+// Token endpoint failure carrying an RFC 6749 error code (invalid_client, invalid_scope, ...)
+public class OAuthTokenException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public OAuthTokenException(String error, HttpStatus status) {
+        super(error);
+        this.status = status;
+    }
+
+    public static OAuthTokenException invalidClient() {
+        return new OAuthTokenException("invalid_client", HttpStatus.UNAUTHORIZED);
+    }
+
+    public static OAuthTokenException invalidRequest() {
+        return new OAuthTokenException("invalid_request", HttpStatus.BAD_REQUEST);
+    }
+
+    public static OAuthTokenException invalidScope() {
+        return new OAuthTokenException("invalid_scope", HttpStatus.BAD_REQUEST);
+    }
+
+    public static OAuthTokenException unsupportedGrantType() {
+        return new OAuthTokenException("unsupported_grant_type", HttpStatus.BAD_REQUEST);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
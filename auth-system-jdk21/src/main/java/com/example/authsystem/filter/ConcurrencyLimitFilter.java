@@ -0,0 +1,110 @@
+package com.example.authsystem.filter;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Separate adaptive limits for the expensive /api/auth endpoints (BCrypt, inserts) and for
+// token-authenticated traffic, so a login surge can never starve cheap token validation
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+    private static final String AUTH_PATH_PREFIX = "/api/auth/";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AdaptiveConcurrencyLimit authLimit;
+    private final AdaptiveConcurrencyLimit authenticatedLimit;
+
+    @Value("${app.limiter.enabled:true}")
+    private boolean enabled;
+
+    public ConcurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.limiter.auth.initial-limit:20}") int authInitial,
+            @Value("${app.limiter.auth.min-limit:4}") int authMin,
+            @Value("${app.limiter.auth.max-limit:200}") int authMax,
+            @Value("${app.limiter.authenticated.initial-limit:100}") int authenticatedInitial,
+            @Value("${app.limiter.authenticated.min-limit:10}") int authenticatedMin,
+            @Value("${app.limiter.authenticated.max-limit:2000}") int authenticatedMax
+    ) {
+        this.authLimit = register(meterRegistry, new AdaptiveConcurrencyLimit("auth", authInitial, authMin, authMax));
+        this.authenticatedLimit = register(meterRegistry,
+                new AdaptiveConcurrencyLimit("authenticated", authenticatedInitial, authenticatedMin, authenticatedMax));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        AdaptiveConcurrencyLimit limit = enabled ? classify(request) : null;
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!limit.tryAcquire()) {
+            logger.debug("Rejected {} request, limit {} reached", limit.getName(), limit.getLimit());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.getWriter().write("{\"error\":\"Too many concurrent requests\"}");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            if (dropped) {
+                limit.onDropped();
+            } else {
+                limit.onSuccess(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private AdaptiveConcurrencyLimit classify(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith(AUTH_PATH_PREFIX)) {
+            return authLimit;
+        }
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            return authenticatedLimit;
+        }
+        return null;
+    }
+
+    private static AdaptiveConcurrencyLimit register(MeterRegistry registry, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("auth.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("group", limit.getName())
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("auth.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInflight)
+                .tag("group", limit.getName())
+                .description("Requests currently holding a permit")
+                .register(registry);
+        FunctionCounter.builder("auth.concurrency.rejected", limit, AdaptiveConcurrencyLimit::getRejected)
+                .tag("group", limit.getName())
+                .description("Requests rejected because the limit was reached")
+                .register(registry);
+        return limit;
+    }
+}
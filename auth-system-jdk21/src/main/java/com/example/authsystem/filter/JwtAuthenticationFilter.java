@@ -1,11 +1,11 @@
 package com.example.authsystem.filter;
 
 import java.io.IOException;
+import java.time.Instant;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,7 +13,12 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.example.authsystem.entity.ServiceAccount;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.monitoring.AuthFilterEvent;
 import com.example.authsystem.service.JwtService;
+import com.example.authsystem.service.ServiceAccountService;
+import com.example.authsystem.token.TokenValidationResult;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -29,10 +34,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final ServiceAccountService serviceAccountService;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserDetailsService userDetailsService,
+            ServiceAccountService serviceAccountService
+    ) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.serviceAccountService = serviceAccountService;
     }
 
     @Override
@@ -50,23 +61,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // JFR AuthFilter event covers token handling only, not the downstream chain
+        var event = new AuthFilterEvent();
+        event.begin();
         try {
             final String jwt = authHeader.substring(BEARER_PREFIX.length());
 
             // JDK 21 Pattern matching for token validation
             switch (jwtService.validateToken(jwt)) {
-                case JwtService.Valid(String userEmail) -> {
+                case TokenValidationResult.Valid(String userEmail, Integer permissions, Instant expiresAt) -> {
+                    event.outcome = "valid";
                     if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                        authenticateUser(request, userEmail, jwt);
+                        authenticateUser(request, userEmail, permissions);
                     }
                 }
-                case JwtService.Expired(String userEmail) -> {
+                case TokenValidationResult.Expired(String userEmail) -> {
+                    event.outcome = "expired";
                     logger.warn("Expired token for user: {}", userEmail);
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     response.getWriter().write("{\"error\":\"Token expired\"}");
                     return;
                 }
-                case JwtService.Invalid(String reason) -> {
+                case TokenValidationResult.Revoked(String userEmail) -> {
+                    event.outcome = "revoked";
+                    logger.warn("Revoked token for user: {}", userEmail);
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.getWriter().write("{\"error\":\"Token revoked\"}");
+                    return;
+                }
+                case TokenValidationResult.Invalid(String reason) -> {
+                    event.outcome = "invalid";
                     logger.warn("Invalid token: {}", reason);
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     response.getWriter().write("{\"error\":\"Invalid token\"}");
@@ -74,24 +98,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
             }
         } catch (Exception e) {
+            event.outcome = "error";
             logger.error("Error processing JWT token", e);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().write("{\"error\":\"Authentication failed\"}");
             return;
+        } finally {
+            if (event.shouldCommit()) {
+                event.uri = request.getRequestURI();
+                event.commit();
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateUser(HttpServletRequest request, String userEmail, String jwt) {
+    private void authenticateUser(HttpServletRequest request, String userEmail, Integer permissions) {
         try {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+            UserDetails userDetails = ServiceAccount.isClientSubject(userEmail)
+                    ? serviceAccountService.loadByClientId(userEmail)
+                    : userDetailsService.loadUserByUsername(userEmail);
+
+            // validateToken already checked signature and expiry; re-parsing via isTokenValid would redo that work
+            if (userEmail.equals(userDetails.getUsername())) {
+                // Tokens minted before the perms claim existed fall back to the role's mask
+                int permissionMask = permissions != null ? permissions : switch (userDetails) {
+                    case User user -> user.getRole().getPermissions();
+                    case ServiceAccount account -> account.getScopes();
+                    default -> 0;
+                };
+                PermissionAuthenticationToken authToken = new PermissionAuthenticationToken(
                         userDetails,
-                        null,
-                        userDetails.getAuthorities()
+                        userDetails.getAuthorities(),
+                        permissionMask
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
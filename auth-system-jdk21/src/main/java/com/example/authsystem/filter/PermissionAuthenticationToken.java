@@ -0,0 +1,25 @@
+package com.example.authsystem.filter;
+
+import java.util.Collection;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+// Authenticated principal plus the Permission bitmask taken from the access token
+public class PermissionAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private final int permissions;
+
+    public PermissionAuthenticationToken(
+            Object principal,
+            Collection<? extends GrantedAuthority> authorities,
+            int permissions
+    ) {
+        super(principal, null, authorities);
+        this.permissions = permissions;
+    }
+
+    public int getPermissions() {
+        return permissions;
+    }
+}
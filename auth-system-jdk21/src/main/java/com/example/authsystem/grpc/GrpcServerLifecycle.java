@@ -0,0 +1,96 @@
+package com.example.authsystem.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.example.authsystem.service.JwtService;
+import com.example.authsystem.service.UserService;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+
+// Optional internal gRPC listener next to the HTTP server. It binds to loopback by default and is
+// meant for sidecars and service mesh traffic only; it does not go through the Spring Security chain,
+// so callers authenticate with the shared app.grpc.auth-token instead (SharedSecretAuthInterceptor).
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true")
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final TokenValidationGrpcService service;
+    private final SharedSecretAuthInterceptor authInterceptor;
+    private final String address;
+    private final int port;
+    private final Duration shutdownGracePeriod;
+
+    private ExecutorService executor;
+    private Server server;
+
+    public GrpcServerLifecycle(
+            JwtService jwtService,
+            UserService userService,
+            @Value("${app.grpc.address:127.0.0.1}") String address,
+            @Value("${app.grpc.port:9090}") int port,
+            @Value("${app.grpc.shutdown-grace-period:PT10S}") Duration shutdownGracePeriod,
+            @Value("${app.grpc.auth-token:}") String authToken
+    ) {
+        this.service = new TokenValidationGrpcService(jwtService, userService);
+        this.authInterceptor = new SharedSecretAuthInterceptor(authToken);
+        this.address = address;
+        this.port = port;
+        this.shutdownGracePeriod = shutdownGracePeriod;
+    }
+
+    @Override
+    public void start() {
+        // GetUserInfo may block on the database, so calls run on virtual threads like HTTP requests
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = NettyServerBuilder.forAddress(new InetSocketAddress(address, port))
+                .executor(executor)
+                .addService(ServerInterceptors.intercept(service, authInterceptor))
+                // Tokens are well under 1 KiB; anything near this is not a token request
+                .maxInboundMessageSize(64 * 1024)
+                .permitKeepAliveTime(30, TimeUnit.SECONDS)
+                .build();
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start gRPC server on " + address + ":" + port, e);
+        }
+        logger.info("gRPC token validation service listening on {}:{}", address, server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null && !server.isShutdown();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.authsystem.grpc;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+// Every call must carry the shared secret from app.grpc.auth-token in the x-internal-auth header;
+// the listener bypasses Spring Security, so this is what keeps GetUserInfo from being an open lookup
+public class SharedSecretAuthInterceptor implements ServerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedSecretAuthInterceptor.class);
+
+    static final Metadata.Key<String> AUTH_HEADER =
+            Metadata.Key.of("x-internal-auth", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final byte[] expected;
+
+    public SharedSecretAuthInterceptor(String authToken) {
+        if (authToken == null || authToken.isBlank()) {
+            throw new IllegalStateException("app.grpc.auth-token must be set when app.grpc.enabled=true");
+        }
+        this.expected = authToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        String presented = headers.get(AUTH_HEADER);
+        // Constant-time comparison so response timing does not leak how much of the secret matched
+        if (presented == null || !MessageDigest.isEqual(expected, presented.getBytes(StandardCharsets.UTF_8))) {
+            logger.warn("Rejected unauthenticated gRPC call to {}", call.getMethodDescriptor().getFullMethodName());
+            call.close(Status.UNAUTHENTICATED.withDescription("Missing or invalid x-internal-auth"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return next.startCall(call, headers);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.authsystem.grpc;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.authsystem.entity.User;
+import com.example.authsystem.grpc.v1.GetUserInfoRequest;
+import com.example.authsystem.grpc.v1.TokenValidationServiceGrpc;
+import com.example.authsystem.grpc.v1.UserInfo;
+import com.example.authsystem.grpc.v1.ValidateTokenRequest;
+import com.example.authsystem.grpc.v1.ValidateTokenResponse;
+import com.example.authsystem.service.JwtService;
+import com.example.authsystem.service.UserService;
+import com.example.authsystem.token.TokenType;
+import com.example.authsystem.token.TokenValidationResult;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+// Created by GrpcServerLifecycle only when app.grpc.enabled=true
+public class TokenValidationGrpcService extends TokenValidationServiceGrpc.TokenValidationServiceImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenValidationGrpcService.class);
+
+    private final JwtService jwtService;
+    private final UserService userService;
+
+    public TokenValidationGrpcService(JwtService jwtService, UserService userService) {
+        this.jwtService = jwtService;
+        this.userService = userService;
+    }
+
+    @Override
+    public void validateToken(ValidateTokenRequest request, StreamObserver<ValidateTokenResponse> responseObserver) {
+        responseObserver.onNext(validate(request));
+        responseObserver.onCompleted();
+    }
+
+    // Manual flow control: the next request is only pulled once the previous response could be
+    // written, so a slow reader bounds server-side buffering to one message per stream
+    @Override
+    public StreamObserver<ValidateTokenRequest> validateTokenStream(StreamObserver<ValidateTokenResponse> responseObserver) {
+        var serverObserver = (ServerCallStreamObserver<ValidateTokenResponse>) responseObserver;
+        serverObserver.disableAutoRequest();
+
+        var flow = new Object() {
+            boolean wasReady;
+        };
+        serverObserver.setOnReadyHandler(() -> {
+            if (serverObserver.isReady() && !flow.wasReady) {
+                flow.wasReady = true;
+                serverObserver.request(1);
+            }
+        });
+
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(ValidateTokenRequest request) {
+                serverObserver.onNext(validate(request));
+                if (serverObserver.isReady()) {
+                    serverObserver.request(1);
+                } else {
+                    flow.wasReady = false;
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.debug("Validation stream cancelled by client: {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                serverObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    public void getUserInfo(GetUserInfoRequest request, StreamObserver<UserInfo> responseObserver) {
+        if (request.getKeyCase() == GetUserInfoRequest.KeyCase.KEY_NOT_SET) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("id or email is required").asRuntimeException());
+            return;
+        }
+
+        Optional<User> user = request.getKeyCase() == GetUserInfoRequest.KeyCase.ID
+                ? userService.findById(request.getId())
+                : userService.findByEmail(request.getEmail());
+
+        user.ifPresentOrElse(
+                u -> {
+                    responseObserver.onNext(UserInfo.newBuilder()
+                            .setId(u.getId())
+                            .setFirstName(u.getFirstName())
+                            .setLastName(u.getLastName())
+                            .setEmail(u.getEmail())
+                            .setRole(u.getRole().name())
+                            .build());
+                    responseObserver.onCompleted();
+                },
+                () -> responseObserver.onError(Status.NOT_FOUND
+                        .withDescription("User not found").asRuntimeException())
+        );
+    }
+
+    private ValidateTokenResponse validate(ValidateTokenRequest request) {
+        var response = ValidateTokenResponse.newBuilder()
+                .setCorrelationId(request.getCorrelationId());
+
+        // Only access tokens authorize calls, so a refresh token comes back INVALID
+        // JDK 21 Pattern matching for token validation
+        switch (jwtService.validateToken(request.getToken(), new TokenType.AccessToken())) {
+            case TokenValidationResult.Valid(String username, Integer permissions, Instant expiresAt) -> {
+                response.setStatus(ValidateTokenResponse.Status.VALID)
+                        .setUsername(nullToEmpty(username))
+                        .setExpiresAtEpochSecond(expiresAt.getEpochSecond());
+                if (permissions != null) {
+                    response.setPermissions(permissions);
+                }
+            }
+            case TokenValidationResult.Expired(String username) ->
+                response.setStatus(ValidateTokenResponse.Status.EXPIRED).setUsername(nullToEmpty(username));
+            case TokenValidationResult.Revoked(String username) ->
+                response.setStatus(ValidateTokenResponse.Status.REVOKED).setUsername(nullToEmpty(username));
+            case TokenValidationResult.Invalid(String reason) ->
+                response.setStatus(ValidateTokenResponse.Status.INVALID).setReason(nullToEmpty(reason));
+        }
+        return response.build();
+    }
+
+    // Protobuf string setters reject null
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.authsystem.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.authsystem.AuthFilter")
+@Label("JWT Authentication Filter")
+@Category({"Auth System", "Web"})
+@Description("Token authentication performed by JwtAuthenticationFilter, excluding the rest of the chain")
+@StackTrace(false)
+public class AuthFilterEvent extends jdk.jfr.Event {
+
+    @Label("Request URI")
+    public String uri;
+
+    @Label("Outcome")
+    public String outcome;
+}
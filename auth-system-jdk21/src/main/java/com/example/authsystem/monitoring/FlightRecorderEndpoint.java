@@ -0,0 +1,121 @@
+package com.example.authsystem.monitoring;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+// /actuator/flightrecorder (admin only, like every actuator path): POST .../start, .../dump, .../stop
+@Component
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Value("${app.jfr.dump-directory:${java.io.tmpdir}/auth-system-jfr}")
+    private Path dumpDirectory;
+
+    @Value("${app.jfr.max-age:PT30M}")
+    private Duration maxAge;
+
+    @Value("${app.jfr.max-size:256MB}")
+    private DataSize maxSize;
+
+    private Recording recording;
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        var status = new LinkedHashMap<String, Object>();
+        status.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            status.put("name", recording.getName());
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAge", recording.getMaxAge());
+            status.put("size", recording.getSize());
+        }
+        status.put("dumpDirectory", dumpDirectory.toString());
+        return status;
+    }
+
+    // settings: a JFC configuration name such as "default" (low overhead) or "profile"
+    @WriteOperation
+    public synchronized Map<String, Object> control(@Selector String action, @Nullable String settings) {
+        return switch (action) {
+            case "start" -> start(settings == null ? "default" : settings);
+            case "dump" -> dump();
+            case "stop" -> stop();
+            default -> throw new IllegalArgumentException("Unknown action: " + action);
+        };
+    }
+
+    private Map<String, Object> start(String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        try {
+            var newRecording = new Recording(Configuration.getConfiguration(settings));
+            newRecording.setName("auth-system-continuous");
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setMaxSize(maxSize.toBytes());
+            newRecording.start();
+            recording = newRecording;
+            logger.info("Started continuous flight recording with '{}' settings", settings);
+            return status();
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Cannot load JFR settings: " + settings, e);
+        }
+    }
+
+    // Writes the data currently held by the running recording without stopping it
+    private Map<String, Object> dump() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No running recording to dump");
+        }
+        try {
+            Files.createDirectories(dumpDirectory);
+            Path file = dumpDirectory.resolve("auth-system-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+            recording.dump(file);
+            logger.info("Dumped flight recording to {}", file);
+            var result = status();
+            result.put("file", file.toString());
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, Object> stop() {
+        if (recording != null) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.close();
+            recording = null;
+            logger.info("Stopped continuous flight recording");
+        }
+        return status();
+    }
+}
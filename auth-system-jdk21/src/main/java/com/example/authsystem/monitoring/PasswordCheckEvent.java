@@ -0,0 +1,21 @@
+package com.example.authsystem.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.authsystem.PasswordCheck")
+@Label("Password Check")
+@Category({"Auth System", "Authentication"})
+@Description("DaoAuthenticationProvider password verification (BCrypt)")
+@StackTrace(false)
+public class PasswordCheckEvent extends jdk.jfr.Event {
+
+    @Label("Username")
+    public String username;
+
+    @Label("Matched")
+    public boolean matched;
+}
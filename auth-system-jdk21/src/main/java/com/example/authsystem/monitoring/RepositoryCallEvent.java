@@ -0,0 +1,17 @@
+package com.example.authsystem.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Keeps stack traces so pinned virtual threads in JDBC can be traced back to the caller
+@Name("com.example.authsystem.RepositoryCall")
+@Label("Repository Call")
+@Category({"Auth System", "Persistence"})
+@Description("UserRepository call made through UserService")
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+}
@@ -0,0 +1,21 @@
+package com.example.authsystem.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.authsystem.TokenSign")
+@Label("Token Sign")
+@Category({"Auth System", "Tokens"})
+@Description("Building and signing (or storing) an access or refresh token")
+@StackTrace(false)
+public class TokenSignEvent extends jdk.jfr.Event {
+
+    @Label("Token Type")
+    public String tokenType;
+
+    @Label("Reference Token")
+    public boolean reference;
+}
@@ -0,0 +1,21 @@
+package com.example.authsystem.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.authsystem.TokenVerify")
+@Label("Token Verify")
+@Category({"Auth System", "Tokens"})
+@Description("Parsing and verifying a presented token")
+@StackTrace(false)
+public class TokenVerifyEvent extends jdk.jfr.Event {
+
+    @Label("Result")
+    public String result;
+
+    @Label("Reference Token")
+    public boolean reference;
+}
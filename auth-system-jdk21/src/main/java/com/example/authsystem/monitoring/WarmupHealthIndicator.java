@@ -0,0 +1,31 @@
+package com.example.authsystem.monitoring;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.example.authsystem.service.WarmupService;
+
+// Part of the readiness group: the instance only takes traffic once warm-up has finished
+@Component("warmup")
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupService warmupService;
+
+    public WarmupHealthIndicator(WarmupService warmupService) {
+        this.warmupService = warmupService;
+    }
+
+    @Override
+    public Health health() {
+        var builder = switch (warmupService.getState()) {
+            case COMPLETED, DISABLED -> Health.up();
+            case PENDING, RUNNING -> Health.outOfService();
+        };
+        return builder
+                .withDetail("state", warmupService.getState())
+                .withDetail("iterations", warmupService.getCompletedIterations())
+                .withDetail("elapsedMillis", warmupService.getElapsedMillis())
+                .build();
+    }
+}
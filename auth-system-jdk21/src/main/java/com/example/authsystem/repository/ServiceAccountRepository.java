@@ -0,0 +1,13 @@
+package com.example.authsystem.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.authsystem.entity.ServiceAccount;
+
+@Repository
+public interface ServiceAccountRepository extends JpaRepository<ServiceAccount, Long> {
+    Optional<ServiceAccount> findByClientId(String clientId);
+}
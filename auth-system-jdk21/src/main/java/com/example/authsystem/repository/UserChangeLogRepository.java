@@ -0,0 +1,26 @@
+package com.example.authsystem.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.authsystem.entity.UserChangeLog;
+
+@Repository
+public interface UserChangeLogRepository extends JpaRepository<UserChangeLog, Long> {
+
+    List<UserChangeLog> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Query("select coalesce(max(c.id), 0) from UserChangeLog c")
+    long findMaxId();
+
+    @Modifying
+    @Transactional
+    @Query("delete from UserChangeLog c where c.changedAt < :cutoff")
+    int deleteOlderThan(LocalDateTime cutoff);
+}
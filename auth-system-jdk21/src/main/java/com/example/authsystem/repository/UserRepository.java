@@ -0,0 +1,78 @@
+package com.example.authsystem.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.authsystem.entity.Role;
+import com.example.authsystem.entity.User;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, Long> {
+    Optional<User> findByEmail(String email);
+    boolean existsByEmail(String email);
+    List<TokenVersionView> findByTokenVersionGreaterThan(int tokenVersion);
+    Stream<SearchView> streamAllBy();
+    List<SearchView> findByIdIn(Collection<Long> ids);
+
+    // Single-column UPDATE; skips loading and merging the entity (and its @PreUpdate timestamp)
+    @Modifying
+    @Query("update User u set u.lastLogin = :lastLogin where u.id = :id")
+    int updateLastLogin(@Param("id") Long id, @Param("lastLogin") LocalDateTime lastLogin);
+
+    // One aggregate scan seeding UserStatistics
+    @Query("select u.role as role, u.enabled as enabled, u.accountNonLocked as accountNonLocked, count(u) as users "
+            + "from User u group by u.role, u.enabled, u.accountNonLocked")
+    List<StateCountView> countByState();
+
+    // Range over idx_user_created_at, one row per local clock minute with signups. Minutes rather than
+    // hours because created_at is local wall time: only whole minutes map onto UTC epoch hours in
+    // every zone (half-hour offsets) and across DST transitions
+    @Query("select year(u.createdAt) as year, month(u.createdAt) as month, day(u.createdAt) as day, "
+            + "hour(u.createdAt) as hour, minute(u.createdAt) as minute, count(u) as users "
+            + "from User u where u.createdAt >= :since "
+            + "group by year(u.createdAt), month(u.createdAt), day(u.createdAt), hour(u.createdAt), minute(u.createdAt)")
+    List<MinuteCountView> countCreatedPerMinuteSince(@Param("since") LocalDateTime since);
+
+    interface TokenVersionView {
+        Long getId();
+        int getTokenVersion();
+    }
+
+    interface StateCountView {
+        Role getRole();
+        boolean getEnabled();
+        boolean getAccountNonLocked();
+        long getUsers();
+    }
+
+    interface MinuteCountView {
+        int getYear();
+        int getMonth();
+        int getDay();
+        int getHour();
+        int getMinute();
+        long getUsers();
+
+        default LocalDateTime getMinuteStart() {
+            return LocalDateTime.of(getYear(), getMonth(), getDay(), getHour(), getMinute());
+        }
+    }
+
+    interface SearchView {
+        Long getId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        Role getRole();
+        int getTokenVersion();
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.authsystem.service;
+
+import com.example.authsystem.dto.AuthRequest;
+import com.example.authsystem.dto.AuthResponse;
+import com.example.authsystem.dto.ChangePasswordRequest;
+import com.example.authsystem.dto.LoginRequest;
+import com.example.authsystem.dto.SignUpRequest;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.exception.EmailAlreadyExistsException;
+import com.example.authsystem.exception.InvalidTokenException;
+import com.example.authsystem.token.TokenClaims;
+import com.example.authsystem.token.TokenType;
+import com.example.authsystem.token.TokenValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+
+// Deliberately not @Transactional: BCrypt (cost 12, ~250ms) and token signing run with no
+// transaction or pooled connection held; each read/write below is its own short transaction
+@Service
+public class AuthService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+    
+    private final UserService userService;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtService jwtService;
+    private final AuthenticationManager authenticationManager;
+    private final UserStatistics statistics;
+    private final SingleFlight<String, AuthResponse> refreshFlights = new SingleFlight<>();
+    
+    // Fraction of the refresh token lifetime below which /refresh also returns a new refresh token
+    @Value("${app.jwt.refresh-reissue-threshold:0.5}")
+    private double refreshReissueThreshold;
+    
+    public AuthService(
+            UserService userService,
+            PasswordEncoder passwordEncoder,
+            JwtService jwtService,
+            AuthenticationManager authenticationManager,
+            UserStatistics statistics
+    ) {
+        this.userService = userService;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtService = jwtService;
+        this.authenticationManager = authenticationManager;
+        this.statistics = statistics;
+    }
+    
+    public AuthResponse authenticate(AuthRequest request) {
+        return switch (request) {
+            case SignUpRequest signUpReq -> signUp(signUpReq);
+            case LoginRequest loginReq -> login(loginReq);
+        };
+    }
+    
+    private AuthResponse signUp(SignUpRequest request) {
+        logger.info("Attempting to register user with email: {}", request.email());
+        
+        // The uniqueness check and the BCrypt hash are independent, so they run as sibling subtasks.
+        // A taken email fails the scope and the hash is discarded unused; BCrypt does not observe
+        // interrupts, so that path still waits for it to finish before the scope closes.
+        String encodedPassword;
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+            scope.fork(() -> {
+                if (userService.existsByEmail(request.email())) {
+                    throw new EmailAlreadyExistsException("Email already exists: " + request.email());
+                }
+                return null;
+            });
+            Subtask<String> hash = scope.fork(() -> passwordEncoder.encode(request.password()));
+            joinAll(scope);
+            encodedPassword = hash.get();
+        }
+        
+        User savedUser = insert(new User(
+                request.firstName(),
+                request.lastName(),
+                request.email(),
+                encodedPassword
+        ));
+        statistics.recordSignup();
+        
+        // Generate both tokens in parallel
+        String accessToken;
+        String refreshToken;
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+            Subtask<String> access = scope.fork(() -> jwtService.generateToken(savedUser, new TokenType.AccessToken()));
+            Subtask<String> refresh = scope.fork(() -> jwtService.generateToken(savedUser, new TokenType.RefreshToken()));
+            joinAll(scope);
+            accessToken = access.get();
+            refreshToken = refresh.get();
+        }
+        
+        var userInfo = new AuthResponse.UserInfo(
+                savedUser.getId(),
+                savedUser.getFirstName(),
+                savedUser.getLastName(),
+                savedUser.getEmail(),
+                savedUser.getRole().name()
+        );
+        
+        logger.info("Successfully registered user: {}", savedUser.getEmail());
+        
+        return AuthResponse.success(
+                accessToken,
+                refreshToken,
+                jwtService.getAccessTokenLifetime().toSeconds(),
+                userInfo
+        );
+    }
+    
+    private User insert(User user) {
+        try {
+            return userService.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Concurrent signup for the same email won the unique constraint after our existsByEmail check
+            throw new EmailAlreadyExistsException("Email already exists: " + user.getEmail());
+        }
+    }
+    
+    // Waits for every subtask; the first failure is rethrown as is (e.g. EmailAlreadyExistsException)
+    private static void joinAll(StructuredTaskScope.ShutdownOnFailure scope) {
+        try {
+            scope.join().throwIfFailed(failure -> switch (failure) {
+                case RuntimeException runtime -> runtime;
+                case Error error -> throw error;
+                default -> new IllegalStateException("Signup subtask failed", failure);
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during signup", e);
+        }
+    }
+    
+    private AuthResponse login(LoginRequest request) {
+        logger.info("Attempting to authenticate user: {}", request.email());
+        
+        // One short read (loadUserByUsername), then the password check with no connection held
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(
+                        request.email(),
+                        request.password()
+                )
+        );
+        
+        // The provider returns the User it loaded; no second lookup needed
+        User user = (User) authentication.getPrincipal();
+        
+        // Update last login
+        userService.recordLogin(user.getId());
+        statistics.recordLogin();
+        
+        // Add custom claims
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TokenClaims.ROLE, user.getRole().name());
+        claims.put(TokenClaims.FULL_NAME, user.getFullName());
+        
+        var accessToken = jwtService.generateToken(claims, user, new TokenType.AccessToken());
+        var refreshToken = jwtService.generateToken(user, new TokenType.RefreshToken());
+        
+        var userInfo = new AuthResponse.UserInfo(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getRole().name()
+        );
+        
+        logger.info("Successfully authenticated user: {}", user.getEmail());
+        
+        return AuthResponse.success(
+                accessToken,
+                refreshToken,
+                jwtService.getAccessTokenLifetime().toSeconds(),
+                userInfo
+        );
+    }
+    
+    // Both BCrypt calls run before the (short) write transaction
+    public void changePassword(User user, ChangePasswordRequest request) {
+        logger.info("Attempting to change password for user: {}", user.getEmail());
+        
+        if (!passwordEncoder.matches(request.currentPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Current password does not match");
+        }
+        userService.updatePassword(user.getId(), passwordEncoder.encode(request.newPassword()));
+        
+        logger.info("Password changed for user: {}", user.getEmail());
+    }
+    
+    // Parallel duplicates of the same refresh token (e.g. clients waking from sleep) share one
+    // result; no transaction here so waiters never sit on a pooled connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AuthResponse refreshToken(String refreshToken) {
+        return refreshFlights.execute(digest(refreshToken), () -> doRefreshToken(refreshToken));
+    }
+    
+    private AuthResponse doRefreshToken(String refreshToken) {
+        logger.info("Attempting to refresh token");
+        
+        if (!jwtService.isRefreshToken(refreshToken)) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+        
+        // JDK 21 Pattern matching for token validation
+        return switch (jwtService.validateToken(refreshToken)) {
+            case TokenValidationResult.Valid(String userEmail, Integer permissions, Instant expiresAt) -> {
+                User user = userService.findByEmail(userEmail)
+                        .orElseThrow(() -> new RuntimeException("User not found"));
+                
+                var newAccessToken = jwtService.generateToken(user, new TokenType.AccessToken());
+                // Sliding refresh: only rotate the refresh token once it nears expiry, otherwise the
+                // client keeps using the one it has (omitted from the response)
+                var newRefreshToken = shouldReissueRefreshToken(expiresAt)
+                        ? jwtService.generateToken(user, new TokenType.RefreshToken())
+                        : null;
+                
+                var userInfo = new AuthResponse.UserInfo(
+                        user.getId(),
+                        user.getFirstName(),
+                        user.getLastName(),
+                        user.getEmail(),
+                        user.getRole().name()
+                );
+                
+                logger.info("Successfully refreshed token for user: {}", userEmail);
+                
+                yield AuthResponse.success(
+                        newAccessToken,
+                        newRefreshToken,
+                        jwtService.getAccessTokenLifetime().toSeconds(),
+                        userInfo
+                );
+            }
+            case TokenValidationResult.Expired(String userEmail) -> {
+                logger.warn("Refresh token expired for user: {}", userEmail);
+                throw new InvalidTokenException("Refresh token expired");
+            }
+            case TokenValidationResult.Revoked(String userEmail) -> {
+                logger.warn("Refresh token revoked for user: {}", userEmail);
+                throw new InvalidTokenException("Refresh token revoked");
+            }
+            case TokenValidationResult.Invalid(String reason) -> {
+                logger.warn("Invalid refresh token: {}", reason);
+                throw new InvalidTokenException("Invalid refresh token");
+            }
+        };
+    }
+    
+    private boolean shouldReissueRefreshToken(Instant expiresAt) {
+        var remaining = Duration.between(Instant.now(), expiresAt);
+        var threshold = Duration.ofMillis((long) (jwtService.getRefreshTokenLifetime().toMillis() * refreshReissueThreshold));
+        return remaining.compareTo(threshold) < 0;
+    }
+    
+    private static String digest(String token) {
+        try {
+            var sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.example.authsystem.service;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+
+// Offline breached-password corpus: a file of SHA-1 password hashes truncated to record-bytes,
+// sorted ascending (unsigned) with no separators. It is memory-mapped and binary-searched in
+// place, so lookups touch ~log2(n) pages and nothing is copied onto the heap. Replacing the file
+// (write elsewhere, then rename over it) is picked up by the reload check without a restart.
+@Service
+public class BreachedPasswordIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BreachedPasswordIndex.class);
+    // A single MappedByteBuffer is capped at 2 GiB, so large corpora are mapped in 1 GiB windows
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    @Value("${app.breached-passwords.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.breached-passwords.file:}")
+    private String filePath;
+
+    @Value("${app.breached-passwords.record-bytes:20}")
+    private int recordBytes;
+
+    private Path file;
+    private volatile Corpus corpus;
+    private volatile FileTime loadedVersion;
+
+    // Records split across segments at record boundaries, so no record straddles two buffers
+    private record Corpus(MappedByteBuffer[] segments, long recordsPerSegment, long records, int recordBytes) {
+
+        boolean contains(byte[] key) {
+            long low = 0;
+            long high = records - 1;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                int cmp = compare(mid, key);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Unsigned comparison of record[index] with key, 8 bytes at a time, using absolute gets only
+        private int compare(long index, byte[] key) {
+            var segment = segments[(int) (index / recordsPerSegment)];
+            int offset = (int) ((index % recordsPerSegment) * recordBytes);
+            int i = 0;
+            for (; i + Long.BYTES <= recordBytes; i += Long.BYTES) {
+                int cmp = Long.compareUnsigned(segment.getLong(offset + i), longAt(key, i));
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            for (; i < recordBytes; i++) {
+                int cmp = Integer.compare(segment.get(offset + i) & 0xff, key[i] & 0xff);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        }
+
+        private static long longAt(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (bytes[offset + i] & 0xff);
+            }
+            return value;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        if (recordBytes < 1 || recordBytes > 20) {
+            throw new IllegalArgumentException("app.breached-passwords.record-bytes must be between 1 and 20");
+        }
+        if (enabled) {
+            if (filePath.isBlank()) {
+                throw new IllegalArgumentException("app.breached-passwords.file is required when the check is enabled");
+            }
+            file = Path.of(filePath);
+            reloadIfChanged();
+        }
+    }
+
+    public boolean isBreached(CharSequence password) {
+        var current = corpus;
+        if (current == null || current.records() == 0) {
+            return false;
+        }
+        return current.contains(sha1(password));
+    }
+
+    public long size() {
+        var current = corpus;
+        return current == null ? 0 : current.records();
+    }
+
+    @Scheduled(fixedDelayString = "${app.breached-passwords.reload-interval:60000}")
+    public void reloadIfChanged() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            FileTime modified = Files.getLastModifiedTime(file);
+            if (modified.equals(loadedVersion)) {
+                return;
+            }
+            // Readers keep using the previous mapping until the new one is published
+            corpus = map(file);
+            loadedVersion = modified;
+            logger.info("Loaded breached password corpus {} ({} hashes of {} bytes)", file, corpus.records(), recordBytes);
+        } catch (IOException | RuntimeException e) {
+            if (corpus == null) {
+                logger.warn("Breached password corpus {} unavailable, signups are not checked: {}", file, e.getMessage());
+            } else {
+                logger.warn("Could not reload breached password corpus {}, keeping the previous one: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private Corpus map(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % recordBytes != 0) {
+                throw new IllegalStateException("File size " + size + " is not a multiple of " + recordBytes + " byte records");
+            }
+            long records = size / recordBytes;
+            long recordsPerSegment = MAX_SEGMENT_BYTES / recordBytes;
+            int segmentCount = (int) Math.max(1, (records + recordsPerSegment - 1) / recordsPerSegment);
+            var segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = i * recordsPerSegment * recordBytes;
+                long length = Math.min(recordsPerSegment * recordBytes, size - position);
+                // The mapping stays valid after the channel is closed
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                segments[i].order(ByteOrder.BIG_ENDIAN);
+            }
+            return new Corpus(segments, recordsPerSegment, records, recordBytes);
+        }
+    }
+
+    private static byte[] sha1(CharSequence password) {
+        try {
+            return MessageDigest.getInstance("SHA-1")
+                    .digest(password.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.authsystem.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// Client secrets are 256-bit random values generated by the server, so a keyed HMAC-SHA256 is
+// enough to protect them at rest; the deliberately slow BCrypt path stays reserved for passwords
+@Component
+public class ClientSecretHasher {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Value("${app.service-accounts.secret-key}")
+    private String secretKey;
+
+    private SecretKeySpec key;
+    private Mac prototype;
+
+    @PostConstruct
+    void init() {
+        this.key = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        try {
+            this.prototype = Mac.getInstance(HMAC_ALGORITHM);
+            this.prototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    public String hash(String secret) {
+        return HexFormat.of().formatHex(newMac().doFinal(secret.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Constant-time comparison so response timing does not leak how much of the hash matched
+    public boolean matches(String secret, String expectedHash) {
+        byte[] actual = newMac().doFinal(secret.getBytes(StandardCharsets.UTF_8));
+        return MessageDigest.isEqual(actual, HexFormat.of().parseHex(expectedHash));
+    }
+
+    // Same clone-the-initialised-Mac approach as TokenVerifier
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("HmacSHA256 not available", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.authsystem.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.example.authsystem.dto.UserStatsResponse;
+
+// Event counts per clock hour over a sliding window of the last `hours` hours. Each slot is stamped
+// with the epoch hour it counts and recycled lazily by the first increment of a newer hour.
+class HourlyHistogram {
+
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    private final int hours;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray stamps;
+
+    HourlyHistogram(int hours) {
+        this.hours = hours;
+        this.counts = new AtomicLongArray(hours);
+        this.stamps = new AtomicLongArray(hours);
+    }
+
+    static long epochHour(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_HOUR);
+    }
+
+    void add(Instant at, long delta) {
+        long hour = epochHour(at);
+        int slot = (int) Math.floorMod(hour, (long) hours);
+        if (stamps.get(slot) != hour) {
+            synchronized (this) {
+                long stamp = stamps.get(slot);
+                if (stamp > hour) {
+                    // Older than the window
+                    return;
+                }
+                if (stamp < hour) {
+                    // Reset before restamping, so anyone who sees the new stamp counts from zero
+                    counts.set(slot, 0);
+                    stamps.set(slot, hour);
+                }
+            }
+        }
+        counts.addAndGet(slot, delta);
+    }
+
+    // Oldest hour first, empty hours included
+    List<UserStatsResponse.HourlyCount> snapshot(Instant now) {
+        long current = epochHour(now);
+        var result = new ArrayList<UserStatsResponse.HourlyCount>(hours);
+        for (long hour = current - hours + 1; hour <= current; hour++) {
+            int slot = (int) Math.floorMod(hour, (long) hours);
+            long count = stamps.get(slot) == hour ? counts.get(slot) : 0;
+            result.add(new UserStatsResponse.HourlyCount(Instant.ofEpochSecond(hour * SECONDS_PER_HOUR), count));
+        }
+        return result;
+    }
+
+    synchronized void clear() {
+        for (int slot = 0; slot < hours; slot++) {
+            counts.set(slot, 0);
+            stamps.set(slot, 0);
+        }
+    }
+}
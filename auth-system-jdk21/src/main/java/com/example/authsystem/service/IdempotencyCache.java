@@ -0,0 +1,158 @@
+package com.example.authsystem.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.authsystem.dto.AuthRequest;
+import com.example.authsystem.dto.AuthResponse;
+import com.example.authsystem.dto.LoginRequest;
+import com.example.authsystem.dto.SignUpRequest;
+import com.example.authsystem.exception.IdempotencyKeyException;
+
+// Idempotency-Key handling for signup and login: the first successful AuthResponse for a key is kept
+// for the ttl and replayed to retries, and retries arriving while it is still being computed wait for
+// it through SingleFlight. Failures are not stored, so a retry after one runs again. Entries are bound
+// to an HMAC of the request (password included, per-process random key) so a key cannot replay another
+// request's response. Node-local: retries routed to another node are not deduplicated. Bounded by
+// max-entries, evicting oldest first.
+@Component
+public class IdempotencyCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyCache.class);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Value("${app.idempotency.ttl:PT10M}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // Every entry gets the same ttl, so insertion order is also expiry order
+    private final ConcurrentLinkedQueue<Stored> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final SingleFlight<String, Entry> inFlight = new SingleFlight<>();
+    private final SecretKeySpec fingerprintKey;
+
+    private record Entry(byte[] fingerprint, AuthResponse response, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+
+    private record Stored(String cacheKey, Entry entry) {
+    }
+
+    public IdempotencyCache() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.fingerprintKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    public AuthResponse execute(String idempotencyKey, AuthRequest request, Supplier<AuthResponse> work) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw IdempotencyKeyException.invalid();
+        }
+        String cacheKey = endpoint(request) + ':' + idempotencyKey;
+        byte[] fingerprint = fingerprint(request);
+
+        Entry cached = entries.get(cacheKey);
+        if (cached == null || cached.isExpired(System.currentTimeMillis())) {
+            cached = inFlight.execute(cacheKey, () -> {
+                // A flight for this key may have completed between the lookup above and this one
+                Entry completed = entries.get(cacheKey);
+                if (completed != null && !completed.isExpired(System.currentTimeMillis())) {
+                    return completed;
+                }
+                var entry = new Entry(fingerprint, work.get(), System.currentTimeMillis() + ttl.toMillis());
+                store(cacheKey, entry);
+                return entry;
+            });
+        } else {
+            logger.debug("Replaying response for idempotency key on {}", endpoint(request));
+        }
+
+        if (!MessageDigest.isEqual(cached.fingerprint(), fingerprint)) {
+            throw IdempotencyKeyException.reused();
+        }
+        return cached.response();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Pops expired entries off the head of the queue, so a run costs what it removes, not the cache size
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int purged = 0;
+        synchronized (insertionOrder) {
+            Stored oldest;
+            while ((oldest = insertionOrder.peek()) != null && oldest.entry().isExpired(now)) {
+                insertionOrder.poll();
+                if (entries.remove(oldest.cacheKey(), oldest.entry())) {
+                    purged++;
+                }
+            }
+        }
+        if (purged > 0) {
+            logger.debug("Purged {} expired idempotency entries", purged);
+        }
+    }
+
+    // Over max-entries the oldest entries go first; they are also the closest to expiring
+    private void store(String cacheKey, Entry entry) {
+        entries.put(cacheKey, entry);
+        insertionOrder.offer(new Stored(cacheKey, entry));
+        if (entries.size() > maxEntries) {
+            synchronized (insertionOrder) {
+                while (entries.size() > maxEntries) {
+                    Stored oldest = insertionOrder.poll();
+                    if (oldest == null) {
+                        break;
+                    }
+                    entries.remove(oldest.cacheKey(), oldest.entry());
+                }
+            }
+        }
+    }
+
+    private static String endpoint(AuthRequest request) {
+        return switch (request) {
+            case SignUpRequest signUp -> "signup";
+            case LoginRequest login -> "login";
+        };
+    }
+
+    private byte[] fingerprint(AuthRequest request) {
+        String material = switch (request) {
+            case SignUpRequest signUp -> String.join("\0",
+                    signUp.firstName(), signUp.lastName(), signUp.email(), signUp.password());
+            case LoginRequest login -> String.join("\0", login.email(), login.password());
+        };
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(fingerprintKey);
+            return mac.doFinal(material.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.authsystem.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import com.example.authsystem.entity.User;
+import com.example.authsystem.monitoring.TokenSignEvent;
+import com.example.authsystem.monitoring.TokenVerifyEvent;
+import com.example.authsystem.token.TokenClaims;
+import com.example.authsystem.token.TokenType;
+import com.example.authsystem.token.TokenValidationResult;
+import com.example.authsystem.token.TokenVerifier;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+
+@Service
+public class JwtService {
+
+    @Value("${app.jwt.secret}")
+    private String secretKey;
+
+    @Value("${app.jwt.expiration}")
+    private long jwtExpiration;
+
+    @Value("${app.jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    // Issue short opaque access tokens backed by ReferenceTokenStore instead of self-contained JWTs
+    @Value("${app.jwt.reference-tokens.enabled:false}")
+    private boolean referenceTokensEnabled;
+
+    private final ReferenceTokenStore referenceTokenStore;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    private SecretKey signInKey;
+    private TokenVerifier tokenVerifier;
+
+    public JwtService(ReferenceTokenStore referenceTokenStore, TokenVersionRegistry tokenVersionRegistry) {
+        this.referenceTokenStore = referenceTokenStore;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+    }
+
+    // Key material is fixed for the lifetime of the context, so derive it once
+    @PostConstruct
+    void initKeys() {
+        byte[] keyBytes = secretKey.getBytes();
+        this.signInKey = Keys.hmacShaKeyFor(keyBytes);
+        this.tokenVerifier = new TokenVerifier(keyBytes);
+    }
+
+    public Duration getAccessTokenLifetime() {
+        return Duration.ofMillis(jwtExpiration);
+    }
+
+    public Duration getRefreshTokenLifetime() {
+        return Duration.ofMillis(refreshExpiration);
+    }
+
+    public String extractUsername(String token) {
+        return extractClaim(token, Claims::getSubject);
+    }
+
+    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        final Claims claims = extractAllClaims(token);
+        return claimsResolver.apply(claims);
+    }
+
+    // Enhanced token generation with JDK 21 features
+    public String generateToken(UserDetails userDetails, TokenType tokenType) {
+        return generateToken(new HashMap<>(), userDetails, tokenType);
+    }
+
+    public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails, TokenType tokenType) {
+        var expiration = switch (tokenType) {
+            case TokenType.AccessToken() ->
+                jwtExpiration;
+            case TokenType.RefreshToken() ->
+                refreshExpiration;
+        };
+        return generateToken(extraClaims, userDetails, tokenType, Duration.ofMillis(expiration));
+    }
+
+    // Explicit lifetime, for principals whose tokens don't follow app.jwt.expiration (service accounts)
+    public String generateToken(
+            Map<String, Object> extraClaims,
+            UserDetails userDetails,
+            TokenType tokenType,
+            Duration lifetime
+    ) {
+        var event = new TokenSignEvent();
+        event.begin();
+        try {
+            return buildToken(extraClaims, userDetails, lifetime.toMillis(), tokenType);
+        } finally {
+            if (event.shouldCommit()) {
+                event.tokenType = tokenType.claimValue();
+                event.reference = referenceTokensEnabled && tokenType instanceof TokenType.AccessToken;
+                event.commit();
+            }
+        }
+    }
+
+    private String buildToken(
+            Map<String, Object> extraClaims,
+            UserDetails userDetails,
+            long expiration,
+            TokenType tokenType
+    ) {
+        var now = Instant.now();
+        var expirationTime = now.plus(expiration, ChronoUnit.MILLIS);
+
+        var claimsBuilder = Jwts.claims()
+                .subject(userDetails.getUsername())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expirationTime));
+
+        // Add token type to claims
+        claimsBuilder.add(TokenClaims.TOKEN_TYPE, tokenType.claimValue());
+
+        // Tokens carry the version they were minted at so revocations apply cluster-wide
+        if (userDetails instanceof User user && user.getId() != null) {
+            claimsBuilder.add(TokenClaims.USER_ID, user.getId());
+            claimsBuilder.add(TokenClaims.TOKEN_VERSION, user.getTokenVersion());
+            claimsBuilder.add(TokenClaims.PERMISSIONS, user.getRole().getPermissions());
+        }
+
+        // Add extra claims
+        extraClaims.forEach(claimsBuilder::add);
+
+        var claims = claimsBuilder.build();
+
+        if (referenceTokensEnabled && tokenType instanceof TokenType.AccessToken) {
+            var reference = referenceTokenStore.tryIssue(claims);
+            if (reference.isPresent()) {
+                return reference.get();
+            }
+        }
+
+        return Jwts.builder()
+                .claims(claims)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        final String username = extractUsername(token);
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    }
+
+    public boolean isRefreshToken(String token) {
+        try {
+            String tokenType = extractClaim(token, claims -> claims.get(TokenClaims.TOKEN_TYPE, String.class));
+            return TokenClaims.REFRESH.equals(tokenType);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isTokenExpired(String token) {
+        return extractExpiration(token).before(new Date());
+    }
+
+    private Date extractExpiration(String token) {
+        return extractClaim(token, Claims::getExpiration);
+    }
+
+    private Claims extractAllClaims(String token) {
+        if (isReferenceToken(token)) {
+            var entry = referenceTokenStore.resolve(token);
+            if (entry == null) {
+                throw new JwtException("Unknown reference token");
+            }
+            if (entry.isExpired(System.currentTimeMillis())) {
+                throw new ExpiredJwtException(null, entry.claims(), "Reference token expired");
+            }
+            return entry.claims();
+        }
+        return Jwts
+                .parser()
+                .verifyWith(signInKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    // Compact JWTs always contain '.' separators, Base64url reference tokens never do
+    private boolean isReferenceToken(String token) {
+        return referenceTokensEnabled && token.indexOf('.') < 0;
+    }
+
+    public TokenValidationResult validateToken(String token) {
+        return validateToken(token, null);
+    }
+
+    // expectedType null accepts any token type; callers that grant access should pass AccessToken
+    public TokenValidationResult validateToken(String token, TokenType expectedType) {
+        var event = new TokenVerifyEvent();
+        event.begin();
+        TokenValidationResult result = verify(token, expectedType);
+        if (event.shouldCommit()) {
+            event.result = result.getClass().getSimpleName();
+            event.reference = isReferenceToken(token);
+            event.commit();
+        }
+        return result;
+    }
+
+    private TokenValidationResult verify(String token, TokenType expectedType) {
+        if (isReferenceToken(token)) {
+            var entry = referenceTokenStore.resolve(token);
+            if (entry == null) {
+                return new TokenValidationResult.Invalid("Unknown reference token");
+            }
+            if (entry.isExpired(System.currentTimeMillis())) {
+                referenceTokenStore.revoke(token);
+                return new TokenValidationResult.Expired(entry.claims().getSubject());
+            }
+            String tokenType = entry.claims().get(TokenClaims.TOKEN_TYPE, String.class);
+            if (expectedType != null && !expectedType.claimValue().equals(tokenType)) {
+                return new TokenValidationResult.Invalid("Unexpected token type: " + tokenType);
+            }
+            return checkTokenVersion(entry.claims());
+        }
+
+        // Signed JWTs go through the shared core verifier rather than a full jjwt parse
+        return tokenVerifier.verify(token, expectedType, tokenVersionRegistry::isCurrent);
+    }
+
+    private TokenValidationResult checkTokenVersion(Claims claims) {
+        Long userId = claims.get(TokenClaims.USER_ID, Long.class);
+        Integer tokenVersion = claims.get(TokenClaims.TOKEN_VERSION, Integer.class);
+
+        if (userId != null && !tokenVersionRegistry.isCurrent(userId, tokenVersion == null ? 0 : tokenVersion)) {
+            return new TokenValidationResult.Revoked(claims.getSubject());
+        }
+        return new TokenValidationResult.Valid(
+                claims.getSubject(),
+                claims.get(TokenClaims.PERMISSIONS, Integer.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.authsystem.service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+
+// In-memory mapping of short opaque reference tokens to the claims they stand for. Bounded by
+// max-entries: once full, tryIssue declines and the caller falls back to a self-contained JWT, so a
+// login burst can neither exhaust the heap nor evict (and silently log out) live sessions.
+@Component
+public class ReferenceTokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceTokenStore.class);
+    private static final int TOKEN_BYTES = 18; // 24 characters once Base64url encoded
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    @Value("${app.jwt.reference-tokens.max-entries:100000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public record Entry(Claims claims, long expiresAtMillis) {
+
+        public boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+
+    // The size check is not atomic with the insert, so concurrent issuers may overshoot by a few entries
+    public Optional<String> tryIssue(Claims claims) {
+        if (entries.size() >= maxEntries) {
+            logger.warn("Reference token store full ({} entries), issuing a signed JWT instead", maxEntries);
+            return Optional.empty();
+        }
+        var entry = new Entry(claims, claims.getExpiration().getTime());
+        while (true) {
+            var bytes = new byte[TOKEN_BYTES];
+            secureRandom.nextBytes(bytes);
+            var token = encoder.encodeToString(bytes);
+            if (entries.putIfAbsent(token, entry) == null) {
+                return Optional.of(token);
+            }
+        }
+    }
+
+    public Entry resolve(String token) {
+        return entries.get(token);
+    }
+
+    public void revoke(String token) {
+        entries.remove(token);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.reference-tokens.purge-interval:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        int purged = before - entries.size();
+        if (purged > 0) {
+            logger.debug("Purged {} expired reference tokens", purged);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.authsystem.service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import com.example.authsystem.dto.ClientCredentialsResponse;
+import com.example.authsystem.dto.ServiceAccountCredentials;
+import com.example.authsystem.entity.Permission;
+import com.example.authsystem.entity.ServiceAccount;
+import com.example.authsystem.exception.OAuthTokenException;
+import com.example.authsystem.exception.UserNotFoundException;
+import com.example.authsystem.repository.ServiceAccountRepository;
+import com.example.authsystem.token.TokenClaims;
+import com.example.authsystem.token.TokenType;
+
+// Service accounts live in the default datasource (shard 0 when sharding is enabled)
+@Service
+public class ServiceAccountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceAccountService.class);
+
+    private static final String CLIENT_ID_PREFIX = "svc_";
+    private static final int CLIENT_ID_BYTES = 12;
+    private static final int SECRET_BYTES = 32;
+
+    @Value("${app.service-accounts.token-lifetime}")
+    private Duration tokenLifetime;
+
+    // Cached tokens are handed out again while more than this fraction of their lifetime remains
+    @Value("${app.service-accounts.token-reuse-threshold}")
+    private double tokenReuseThreshold;
+
+    private final ServiceAccountRepository repository;
+    private final ClientSecretHasher secretHasher;
+    private final JwtService jwtService;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<TokenCacheKey, CachedToken> tokenCache = new ConcurrentHashMap<>();
+    private final SingleFlight<String, Optional<ServiceAccount>> clientLookups = new SingleFlight<>();
+
+    public ServiceAccountService(ServiceAccountRepository repository, ClientSecretHasher secretHasher, JwtService jwtService) {
+        this.repository = repository;
+        this.secretHasher = secretHasher;
+        this.jwtService = jwtService;
+    }
+
+    public ServiceAccountCredentials create(String name, Set<Permission> scopes) {
+        String clientId = CLIENT_ID_PREFIX + HexFormat.of().formatHex(randomBytes(CLIENT_ID_BYTES));
+        String clientSecret = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes(SECRET_BYTES));
+        int mask = Permission.maskOf(scopes.toArray(Permission[]::new));
+
+        ServiceAccount account = repository.save(new ServiceAccount(clientId, name, secretHasher.hash(clientSecret), mask));
+        logger.info("Service account created: {} ({})", account.getClientId(), name);
+        return new ServiceAccountCredentials(clientId, clientSecret, name, scopeString(mask), true);
+    }
+
+    // Outstanding tokens are rejected on their next use, the filter reloads the account every request
+    public ServiceAccountCredentials disable(String clientId) {
+        ServiceAccount account = repository.findByClientId(clientId)
+                .orElseThrow(() -> new UserNotFoundException("Service account not found: " + clientId));
+        account.setEnabled(false);
+        repository.save(account);
+        tokenCache.keySet().removeIf(key -> key.accountId().equals(account.getId()));
+        logger.info("Service account disabled: {}", clientId);
+        return new ServiceAccountCredentials(clientId, null, account.getName(), scopeString(account.getScopes()), false);
+    }
+
+    // Principal for a service-account token subject; only enabled accounts authenticate
+    public ServiceAccount loadByClientId(String clientId) {
+        return clientLookups.execute(clientId, () -> repository.findByClientId(clientId))
+                .filter(ServiceAccount::isEnabled)
+                .orElseThrow(() -> new UsernameNotFoundException("Service account not found: " + clientId));
+    }
+
+    // client_credentials grant. Repeated requests for the same client and scope get the cached token
+    // back while it is fresh enough, so a client polling the endpoint does not mint a token per call.
+    public ClientCredentialsResponse issueToken(String clientId, String clientSecret, String scope) {
+        ServiceAccount account = repository.findByClientId(clientId)
+                .filter(ServiceAccount::isEnabled)
+                .filter(candidate -> secretHasher.matches(clientSecret, candidate.getSecretHash()))
+                .orElseThrow(OAuthTokenException::invalidClient);
+
+        int mask = requestedScopes(account, scope);
+        Instant now = Instant.now();
+        CachedToken token = tokenCache.compute(new TokenCacheKey(account.getId(), mask),
+                (key, cached) -> cached != null && isReusable(cached, now) ? cached : mint(account, mask, now));
+
+        long expiresIn = Duration.between(now, token.expiresAt()).toSeconds();
+        return ClientCredentialsResponse.bearer(token.accessToken(), expiresIn, scopeString(mask));
+    }
+
+    private CachedToken mint(ServiceAccount account, int mask, Instant now) {
+        Map<String, Object> claims = Map.of(
+                TokenClaims.CLIENT_ID, account.getClientId(),
+                TokenClaims.PERMISSIONS, mask,
+                TokenClaims.SCOPE, scopeString(mask)
+        );
+        String accessToken = jwtService.generateToken(claims, account, new TokenType.AccessToken(), tokenLifetime);
+        return new CachedToken(accessToken, now.plus(tokenLifetime));
+    }
+
+    private boolean isReusable(CachedToken cached, Instant now) {
+        long remaining = Duration.between(now, cached.expiresAt()).toMillis();
+        return remaining > tokenLifetime.toMillis() * tokenReuseThreshold;
+    }
+
+    // No scope parameter means every scope the account holds; otherwise a subset of them
+    private static int requestedScopes(ServiceAccount account, String scope) {
+        if (scope == null || scope.isBlank()) {
+            return account.getScopes();
+        }
+        int mask = 0;
+        for (String name : scope.trim().split("\\s+")) {
+            try {
+                mask |= Permission.valueOf(name).mask();
+            } catch (IllegalArgumentException e) {
+                throw OAuthTokenException.invalidScope();
+            }
+        }
+        if (!account.hasScopes(mask)) {
+            throw OAuthTokenException.invalidScope();
+        }
+        return mask;
+    }
+
+    private static String scopeString(int mask) {
+        return Arrays.stream(Permission.values())
+                .filter(permission -> (mask & permission.mask()) != 0)
+                .map(Permission::name)
+                .collect(Collectors.joining(" "));
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private record TokenCacheKey(Long accountId, int scopes) {
+    }
+
+    private record CachedToken(String accessToken, Instant expiresAt) {
+    }
+}
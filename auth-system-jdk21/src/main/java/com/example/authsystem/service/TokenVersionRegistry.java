@@ -0,0 +1,122 @@
+package com.example.authsystem.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.authsystem.entity.UserChangeLog;
+import com.example.authsystem.repository.UserChangeLogRepository;
+import com.example.authsystem.repository.UserRepository;
+import com.example.authsystem.sharding.ShardContext;
+import com.example.authsystem.sharding.ShardRouter;
+
+// Node-local userId -> current token version, kept in sync by tailing user_change_log
+// (one feed and one cursor per shard; ids are shard-local)
+@Component
+public class TokenVersionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenVersionRegistry.class);
+
+    private final UserRepository userRepository;
+    private final UserChangeLogRepository changeLogRepository;
+    private final ShardRouter shardRouter;
+    private final ConcurrentHashMap<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    // Identity values can become visible out of order across concurrent transactions,
+    // so each poll re-reads a small window behind the cursor (applying entries is idempotent)
+    @Value("${app.jwt.token-version.poll-overlap:64}")
+    private long pollOverlap;
+
+    @Value("${app.jwt.token-version.retention:P8D}")
+    private Duration retention;
+
+    // Only the scheduler thread writes cursors after seeding
+    private final long[] cursors;
+    private volatile boolean seeded;
+
+    public TokenVersionRegistry(
+            UserRepository userRepository,
+            UserChangeLogRepository changeLogRepository,
+            ShardRouter shardRouter
+    ) {
+        this.userRepository = userRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.shardRouter = shardRouter;
+        this.cursors = new long[shardRouter.shardCount()];
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0);
+    }
+
+    public void record(Long userId, int tokenVersion) {
+        versions.merge(userId, tokenVersion, Math::max);
+    }
+
+    public void forget(Long userId) {
+        versions.remove(userId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        shardRouter.fanOut(shard -> {
+            // Read the cursor first so changes racing with the seed are replayed by the next poll
+            cursors[shard] = changeLogRepository.findMaxId();
+            userRepository.findByTokenVersionGreaterThan(0)
+                    .forEach(view -> record(view.getId(), view.getTokenVersion()));
+            return null;
+        });
+        seeded = true;
+        logger.info("Seeded {} token versions from {} shards", versions.size(), cursors.length);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.token-version.poll-interval:1000}")
+    public void poll() {
+        if (!seeded) {
+            return;
+        }
+        for (int shard = 0; shard < cursors.length; shard++) {
+            int target = shard;
+            ShardContext.run(shard, () -> pollShard(target));
+        }
+    }
+
+    private void pollShard(int shard) {
+        long cursor = cursors[shard];
+        long from = Math.max(0, cursor - pollOverlap);
+        while (true) {
+            var batch = changeLogRepository.findTop500ByIdGreaterThanOrderByIdAsc(from);
+            for (UserChangeLog change : batch) {
+                record(change.getUserId(), change.getTokenVersion());
+                from = change.getId();
+            }
+            if (from > cursor) {
+                cursor = from;
+                cursors[shard] = cursor;
+            }
+            if (batch.size() < 500) {
+                return;
+            }
+        }
+    }
+
+    // Versions are seeded from users, so old feed rows are only needed by nodes that are polling
+    @Scheduled(fixedDelayString = "${app.jwt.token-version.prune-interval:3600000}")
+    public void prune() {
+        var cutoff = LocalDateTime.now().minus(retention);
+        int deleted = shardRouter.fanOut(shard -> changeLogRepository.deleteOlderThan(cutoff)).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        if (deleted > 0) {
+            logger.debug("Pruned {} user change log entries", deleted);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.authsystem.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.authsystem.dto.AuthResponse;
+import com.example.authsystem.dto.BulkOperationStatus;
+import com.example.authsystem.dto.BulkUserDeleteRequest;
+import com.example.authsystem.dto.BulkUserUpdateRequest;
+import com.example.authsystem.dto.UserFilter;
+import com.example.authsystem.repository.UserRepository;
+import com.example.authsystem.sharding.ShardContext;
+import com.example.authsystem.sharding.ShardRouter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// Set-based bulk admin operations, applied in id-ordered chunks with one short transaction per chunk.
+// Chunks never span shards: explicit ids are grouped by the shard encoded in them, filters run shard by shard.
+@Service
+public class UserBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBulkService.class);
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+    private static final String LIKE_ESCAPE = "!";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.admin.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final UserSearchIndex searchIndex;
+    private final ShardRouter shardRouter;
+    private final UserStatistics statistics;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final ConcurrentHashMap<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public UserBulkService(
+            UserRepository userRepository,
+            TokenVersionRegistry tokenVersionRegistry,
+            UserSearchIndex searchIndex,
+            ShardRouter shardRouter,
+            UserStatistics statistics,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.searchIndex = searchIndex;
+        this.shardRouter = shardRouter;
+        this.statistics = statistics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+    }
+
+    // JDK 21 sealed hierarchy for the supported operations
+    private sealed interface Operation permits Update, Delete {
+    }
+
+    private record Update(BulkUserUpdateRequest request) implements Operation {
+    }
+
+    private record Delete(BulkUserDeleteRequest request) implements Operation {
+    }
+
+    private static final class Job {
+        private final String id = UUID.randomUUID().toString();
+        private final String operation;
+        private final AtomicLong processed = new AtomicLong();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile long total;
+        private volatile String state = "RUNNING";
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String operation) {
+            this.operation = operation;
+        }
+
+        private BulkOperationStatus status() {
+            return new BulkOperationStatus(id, operation, state, total, processed.get(), error, startedAt, finishedAt);
+        }
+    }
+
+    public BulkOperationStatus submitUpdate(BulkUserUpdateRequest request) {
+        return submit(new Update(request), "UPDATE");
+    }
+
+    public BulkOperationStatus submitDelete(BulkUserDeleteRequest request) {
+        return submit(new Delete(request), "DELETE");
+    }
+
+    public Optional<BulkOperationStatus> status(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::status);
+    }
+
+    private BulkOperationStatus submit(Operation operation, String name) {
+        evictFinishedJobs();
+        var job = new Job(name);
+        jobs.put(job.id, job);
+        taskExecutor.execute(() -> run(job, operation));
+        return job.status();
+    }
+
+    private void run(Job job, Operation operation) {
+        try {
+            var filter = switch (operation) {
+                case Update(BulkUserUpdateRequest request) -> request.filter();
+                case Delete(BulkUserDeleteRequest request) -> request.filter();
+            };
+            var ids = switch (operation) {
+                case Update(BulkUserUpdateRequest request) -> request.ids();
+                case Delete(BulkUserDeleteRequest request) -> request.ids();
+            };
+
+            if (filter == null) {
+                var byShard = new TreeSet<>(ids).stream()
+                        .collect(Collectors.groupingBy(ShardRouter::shardOf, TreeMap::new, Collectors.toList()));
+                job.total = byShard.values().stream().mapToInt(List::size).sum();
+                byShard.forEach((shard, sorted) -> ShardContext.run(shard, () -> {
+                    for (int from = 0; from < sorted.size(); from += chunkSize) {
+                        applyChunk(job, operation, sorted.subList(from, Math.min(from + chunkSize, sorted.size())));
+                    }
+                }));
+            } else {
+                job.total = shardRouter.fanOut(shard -> countMatching(filter)).stream()
+                        .mapToLong(Long::longValue)
+                        .sum();
+                for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                    ShardContext.run(shard, () -> {
+                        // Keyset pagination by id keeps each chunk query cheap and tolerates rows leaving the filter
+                        long after = 0;
+                        List<Long> chunk;
+                        while (!(chunk = findMatchingIds(filter, after)).isEmpty()) {
+                            applyChunk(job, operation, chunk);
+                            after = chunk.get(chunk.size() - 1);
+                        }
+                    });
+                }
+            }
+
+            job.state = "COMPLETED";
+            logger.info("Bulk {} {} completed: {} users", job.operation, job.id, job.processed.get());
+        } catch (RuntimeException e) {
+            job.state = "FAILED";
+            job.error = e.getMessage();
+            logger.error("Bulk {} {} failed after {} users", job.operation, job.id, job.processed.get(), e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            // Set-based updates bypass per-user tracking; one aggregate scan puts the counters right
+            statistics.reseed();
+        }
+    }
+
+    private void applyChunk(Job job, Operation operation, List<Long> ids) {
+        int affected = transactionTemplate.execute(status -> switch (operation) {
+            case Update(BulkUserUpdateRequest request) -> updateChunk(request, ids);
+            case Delete(BulkUserDeleteRequest request) -> deleteChunk(ids);
+        });
+
+        // Invalidate node-local caches only after the chunk is committed
+        switch (operation) {
+            case Update(BulkUserUpdateRequest request) -> userRepository.findByIdIn(ids).forEach(view -> {
+                tokenVersionRegistry.record(view.getId(), view.getTokenVersion());
+                searchIndex.put(new AuthResponse.UserInfo(
+                        view.getId(),
+                        view.getFirstName(),
+                        view.getLastName(),
+                        view.getEmail(),
+                        view.getRole().name()
+                ));
+            });
+            case Delete(BulkUserDeleteRequest request) -> ids.forEach(id -> {
+                searchIndex.remove(id);
+                tokenVersionRegistry.forget(id);
+            });
+        }
+
+        job.processed.addAndGet(affected);
+    }
+
+    private int updateChunk(BulkUserUpdateRequest request, List<Long> ids) {
+        var now = LocalDateTime.now();
+        var jpql = new StringBuilder("update User u set u.tokenVersion = u.tokenVersion + 1, u.updatedAt = :now");
+        Map<String, Object> parameters = new HashMap<>();
+        if (request.role() != null) {
+            jpql.append(", u.role = :role");
+            parameters.put("role", request.role());
+        }
+        if (request.enabled() != null) {
+            jpql.append(", u.enabled = :enabled");
+            parameters.put("enabled", request.enabled());
+        }
+        if (request.accountNonLocked() != null) {
+            jpql.append(", u.accountNonLocked = :accountNonLocked");
+            parameters.put("accountNonLocked", request.accountNonLocked());
+        }
+        jpql.append(" where u.id in :ids");
+
+        var update = entityManager.createQuery(jpql.toString())
+                .setParameter("now", now)
+                .setParameter("ids", ids);
+        parameters.forEach(update::setParameter);
+        int affected = update.executeUpdate();
+
+        // Feed the bumped token versions to every node in the cluster
+        entityManager.createQuery("""
+                insert into UserChangeLog (userId, tokenVersion, changedAt)
+                select u.id, u.tokenVersion, :now from User u where u.id in :ids
+                """)
+                .setParameter("now", now)
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        return affected;
+    }
+
+    private int deleteChunk(List<Long> ids) {
+        return entityManager.createQuery("delete from User u where u.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    private long countMatching(UserFilter filter) {
+        var parameters = new HashMap<String, Object>();
+        var query = entityManager.createQuery("select count(u) from User u where " + whereClause(filter, parameters), Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    private List<Long> findMatchingIds(UserFilter filter, long after) {
+        var parameters = new HashMap<String, Object>();
+        var query = entityManager.createQuery(
+                "select u.id from User u where u.id > :after and " + whereClause(filter, parameters) + " order by u.id",
+                Long.class
+        );
+        query.setParameter("after", after);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(chunkSize).getResultList();
+    }
+
+    private static String whereClause(UserFilter filter, Map<String, Object> parameters) {
+        var conditions = new ArrayList<String>();
+        if (filter.role() != null) {
+            conditions.add("u.role = :role");
+            parameters.put("role", filter.role());
+        }
+        if (filter.enabled() != null) {
+            conditions.add("u.enabled = :enabled");
+            parameters.put("enabled", filter.enabled());
+        }
+        if (filter.accountNonLocked() != null) {
+            conditions.add("u.accountNonLocked = :accountNonLocked");
+            parameters.put("accountNonLocked", filter.accountNonLocked());
+        }
+        if (filter.emailDomain() != null && !filter.emailDomain().isBlank()) {
+            // '%' and '_' in the domain are matched literally, so "_" cannot select every address
+            conditions.add("lower(u.email) like :emailDomain escape '" + LIKE_ESCAPE + "'");
+            parameters.put("emailDomain", "%@" + escapeLike(filter.emailDomain().strip().toLowerCase(Locale.ROOT)));
+        }
+        if (filter.createdBefore() != null) {
+            conditions.add("u.createdAt < :createdBefore");
+            parameters.put("createdBefore", filter.createdBefore());
+        }
+        return String.join(" and ", conditions);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
+
+    private void evictFinishedJobs() {
+        var cutoff = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.authsystem.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.authsystem.dto.AuthResponse;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.repository.UserRepository;
+import com.example.authsystem.sharding.ShardRouter;
+
+// Sorted in-memory prefix index over the normalized words of email, first name and last name.
+// Keys are "term\0id", so a prefix query is a single range scan of the skip list.
+@Component
+public class UserSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndex.class);
+    private static final char SEPARATOR = '\0';
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // The index holds every user on the heap; very large datasets (benchmarks) can skip the startup load
+    @Value("${app.search-index.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ConcurrentSkipListSet<String> keys = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(AuthResponse.UserInfo userInfo, String[] terms) {
+    }
+
+    public UserSearchIndex(
+            UserRepository userRepository,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userRepository = userRepository;
+        this.shardRouter = shardRouter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        } else {
+            logger.info("User search index startup rebuild disabled");
+        }
+    }
+
+    // Shards stream in parallel, each inside its own read-only transaction (required by streamAllBy)
+    public void rebuild() {
+        shardRouter.fanOut(shard -> readOnlyTransaction.execute(status -> {
+            try (var users = userRepository.streamAllBy()) {
+                users.forEach(view -> put(new AuthResponse.UserInfo(
+                        view.getId(),
+                        view.getFirstName(),
+                        view.getLastName(),
+                        view.getEmail(),
+                        view.getRole().name()
+                )));
+            }
+            return null;
+        }));
+        logger.info("User search index built with {} users", entries.size());
+    }
+
+    public void put(User user) {
+        put(AuthResponse.UserInfo.from(user));
+    }
+
+    public void put(AuthResponse.UserInfo userInfo) {
+        String[] terms = terms(userInfo.email(), userInfo.firstName(), userInfo.lastName());
+        entries.compute(userInfo.id(), (id, previous) -> {
+            // Logins re-save the user without touching indexed fields
+            if (previous != null && previous.userInfo().equals(userInfo)) {
+                return previous;
+            }
+            if (previous != null) {
+                removeKeys(id, previous.terms());
+            }
+            for (String term : terms) {
+                keys.add(key(term, id));
+            }
+            return new Entry(userInfo, terms);
+        });
+    }
+
+    public void remove(Long id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            removeKeys(key, previous.terms());
+            return null;
+        });
+    }
+
+    // Every whitespace-separated token must prefix-match a word of one of the fields; the first token drives the scan
+    public List<AuthResponse.UserInfo> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String[] tokens = WHITESPACE.split(normalized);
+
+        var matches = new LinkedHashSet<Long>();
+        for (String key : keys.subSet(tokens[0], true, tokens[0] + Character.MAX_VALUE, false)) {
+            Long id = Long.valueOf(key.substring(key.lastIndexOf(SEPARATOR) + 1));
+            Entry entry = entries.get(id);
+            if (entry != null && matchesAll(entry, tokens) && matches.add(id) && matches.size() == limit) {
+                break;
+            }
+        }
+
+        var results = new ArrayList<AuthResponse.UserInfo>(matches.size());
+        for (Long id : matches) {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                results.add(entry.userInfo());
+            }
+        }
+        return results;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean matchesAll(Entry entry, String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            boolean matched = false;
+            for (String term : entry.terms()) {
+                if (term.startsWith(tokens[i])) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // One term per word, so "van der Berg" is found by "berg" as well as by "van"
+    private static String[] terms(String... fields) {
+        var terms = new LinkedHashSet<String>();
+        for (String field : fields) {
+            for (String word : WHITESPACE.split(normalize(field))) {
+                if (!word.isEmpty()) {
+                    terms.add(word);
+                }
+            }
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private void removeKeys(Long id, String[] terms) {
+        for (String term : terms) {
+            keys.remove(key(term, id));
+        }
+    }
+
+    private static String key(String term, Long id) {
+        return term + SEPARATOR + id;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
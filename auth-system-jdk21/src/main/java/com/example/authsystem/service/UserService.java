@@ -0,0 +1,228 @@
+package com.example.authsystem.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.authsystem.dto.AuthResponse;
+import com.example.authsystem.entity.Role;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.entity.UserChangeLog;
+import com.example.authsystem.exception.UserNotFoundException;
+import com.example.authsystem.monitoring.RepositoryCallEvent;
+import com.example.authsystem.repository.UserChangeLogRepository;
+import com.example.authsystem.repository.UserRepository;
+import com.example.authsystem.sharding.ShardContext;
+import com.example.authsystem.sharding.ShardRouter;
+
+@Service
+public class UserService implements UserDetailsService {
+    
+    private final UserRepository userRepository;
+    private final UserChangeLogRepository changeLogRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final UserSearchIndex searchIndex;
+    private final ShardRouter shardRouter;
+    private final UserStatistics statistics;
+    private final TransactionTemplate transactionTemplate;
+    private final SingleFlight<String, Optional<User>> emailLookups = new SingleFlight<>();
+    
+    public UserService(
+            UserRepository userRepository,
+            UserChangeLogRepository changeLogRepository,
+            TokenVersionRegistry tokenVersionRegistry,
+            UserSearchIndex searchIndex,
+            ShardRouter shardRouter,
+            UserStatistics statistics,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userRepository = userRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.searchIndex = searchIndex;
+        this.shardRouter = shardRouter;
+        this.statistics = statistics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return findByEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+    }
+    
+    public Optional<User> findByEmail(String email) {
+        // Inside a transaction the entity must belong to the caller's own persistence context. Still
+        // routed by email: ShardContext refuses if the transaction is bound to a different shard.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return shardRouter.onShardForEmail(email,
+                    () -> recorded("findByEmail", () -> userRepository.findByEmail(email)));
+        }
+        // Coalesced callers all receive the same loaded entity, so each gets its own copy to mutate
+        return emailLookups.execute(email, () -> shardRouter.onShardForEmail(email,
+                () -> recorded("findByEmail", () -> userRepository.findByEmail(email))))
+                .map(User::copy);
+    }
+    
+    public boolean existsByEmail(String email) {
+        return shardRouter.onShardForEmail(email,
+                () -> recorded("existsByEmail", () -> userRepository.existsByEmail(email)));
+    }
+    
+    public User save(User user) {
+        boolean created = user.getId() == null;
+        User saved = ShardContext.call(shardRouter.shardForUser(user),
+                () -> recorded("save", () -> userRepository.save(user)));
+        indexAfterCommit(saved);
+        if (created) {
+            var state = UserStatistics.UserState.of(saved);
+            runAfterCommit(() -> statistics.recordCreated(state));
+        }
+        return saved;
+    }
+    
+    public void recordLogin(Long id) {
+        inShardTransaction(id, () -> recorded("updateLastLogin", () -> userRepository.updateLastLogin(id, LocalDateTime.now())));
+    }
+    
+    // Admin scan: every shard is read in parallel, results are concatenated in shard order
+    public List<User> findAll() {
+        return shardRouter.fanOut(shard -> recorded("findAll", userRepository::findAll)).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+    
+    public Optional<User> findById(Long id) {
+        return shardRouter.onShardOf(id, () -> recorded("findById", () -> userRepository.findById(id)));
+    }
+    
+    // Loads before deleting (as deleteById would) so the statistics know what was removed
+    public void deleteById(Long id) {
+        inShardTransaction(id, () -> recorded("deleteById", () -> {
+            userRepository.findById(id).ifPresent(user -> {
+                userRepository.delete(user);
+                var state = UserStatistics.UserState.of(user);
+                runAfterCommit(() -> statistics.recordDeleted(state));
+            });
+            runAfterCommit(() -> searchIndex.remove(id));
+            return null;
+        }));
+    }
+    
+    public List<AuthResponse.UserInfo> search(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+    
+    public User updateProfile(Long id, String firstName, String lastName) {
+        return inShardTransaction(id, () -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new UserNotFoundException("User not found: " + id));
+            user.setFirstName(firstName);
+            user.setLastName(lastName);
+            indexAfterCommit(user);
+            return user;
+        });
+    }
+    
+    public User changeRole(Long id, Role role) {
+        return inShardTransaction(id, () -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new UserNotFoundException("User not found: " + id));
+            var before = UserStatistics.UserState.of(user);
+            user.setRole(role);
+            invalidateTokens(user);
+            indexAfterCommit(user);
+            recordStateChange(before, user);
+            return user;
+        });
+    }
+    
+    public User setEnabled(Long id, boolean enabled) {
+        return inShardTransaction(id, () -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new UserNotFoundException("User not found: " + id));
+            var before = UserStatistics.UserState.of(user);
+            user.setEnabled(enabled);
+            invalidateTokens(user);
+            recordStateChange(before, user);
+            return user;
+        });
+    }
+    
+    // Expects an already encoded password; existing tokens are revoked with the old one
+    public void updatePassword(Long id, String encodedPassword) {
+        inShardTransaction(id, () -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new UserNotFoundException("User not found: " + id));
+            user.setPassword(encodedPassword);
+            invalidateTokens(user);
+            return user;
+        });
+    }
+    
+    // The shard has to be bound before the transaction takes its connection, hence
+    // TransactionTemplate inside ShardContext instead of @Transactional on these methods
+    private <T> T inShardTransaction(Long userId, Supplier<T> work) {
+        return shardRouter.onShardOf(userId, () -> transactionTemplate.execute(status -> work.get()));
+    }
+    
+    // Bumps the user's token version and appends it to the change feed polled by every node.
+    // The change log row lives on the user's shard, in the same transaction.
+    private void invalidateTokens(User user) {
+        int tokenVersion = user.incrementTokenVersion();
+        userRepository.save(user);
+        changeLogRepository.save(new UserChangeLog(user.getId(), tokenVersion));
+        
+        Long userId = user.getId();
+        runAfterCommit(() -> tokenVersionRegistry.record(userId, tokenVersion));
+    }
+    
+    // Snapshot taken now, published only once the change is durable
+    private void indexAfterCommit(User user) {
+        var userInfo = AuthResponse.UserInfo.from(user);
+        runAfterCommit(() -> searchIndex.put(userInfo));
+    }
+    
+    private void recordStateChange(UserStatistics.UserState before, User user) {
+        var after = UserStatistics.UserState.of(user);
+        runAfterCommit(() -> statistics.recordChanged(before, after));
+    }
+    
+    // Node-local side effects must not run for a transaction that rolls back
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    // JFR RepositoryCall event around a UserRepository call; near-free while no recording is active
+    private static <T> T recorded(String operation, Supplier<T> call) {
+        var event = new RepositoryCallEvent();
+        event.begin();
+        try {
+            return call.get();
+        } finally {
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.commit();
+            }
+        }
+    }
+}
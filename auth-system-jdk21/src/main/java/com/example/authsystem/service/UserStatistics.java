@@ -0,0 +1,159 @@
+package com.example.authsystem.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.authsystem.dto.UserStatsResponse;
+import com.example.authsystem.entity.Role;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.repository.UserRepository;
+import com.example.authsystem.sharding.ShardRouter;
+
+// Admin dashboard counters kept in memory and updated as users change, so reads never touch the
+// database. Seeded from one GROUP BY scan per shard at startup and re-seeded every reseed-interval
+// (and after bulk jobs), which also folds in changes made through other nodes. Signup and login
+// histograms count what this node served; signups are seeded from created_at, logins start empty.
+@Component
+public class UserStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatistics.class);
+
+    private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+    private final Map<Role, AtomicLong> usersByRole = new EnumMap<>(Role.class);
+    private final AtomicLong enabledUsers = new AtomicLong();
+    private final AtomicLong lockedUsers = new AtomicLong();
+    private final HourlyHistogram signups;
+    private final HourlyHistogram logins;
+    private final int windowHours;
+    private volatile Instant seededAt;
+
+    // Role, enabled and locked state of a user as far as the counters are concerned
+    public record UserState(Role role, boolean enabled, boolean locked) {
+
+        public static UserState of(User user) {
+            return new UserState(user.getRole(), user.isEnabled(), !user.isAccountNonLocked());
+        }
+    }
+
+    public UserStatistics(
+            UserRepository userRepository,
+            ShardRouter shardRouter,
+            @Value("${app.stats.window-hours:48}") int windowHours
+    ) {
+        if (windowHours < 1) {
+            throw new IllegalArgumentException("app.stats.window-hours must be at least 1");
+        }
+        this.userRepository = userRepository;
+        this.shardRouter = shardRouter;
+        this.windowHours = windowHours;
+        this.signups = new HourlyHistogram(windowHours);
+        this.logins = new HourlyHistogram(windowHours);
+        for (Role role : Role.values()) {
+            usersByRole.put(role, new AtomicLong());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reseed();
+        Instant since = Instant.now().minus(Duration.ofHours(windowHours));
+        LocalDateTime sinceLocal = LocalDateTime.ofInstant(since, ZoneId.systemDefault());
+        signups.clear();
+        // Aggregated per local minute in the database (at most windowHours * 60 rows per shard); each
+        // minute is converted to an instant on its own and lands in its UTC epoch hour. created_at is
+        // wall time, so signups in the repeated hour of a DST fall-back count towards its first pass
+        shardRouter.fanOut(shard -> userRepository.countCreatedPerMinuteSince(sinceLocal)).stream()
+                .flatMap(List::stream)
+                .forEach(row -> signups.add(row.getMinuteStart().atZone(ZoneId.systemDefault()).toInstant(), row.getUsers()));
+    }
+
+    // Counters are overwritten with the scan result; increments racing with the scan are
+    // corrected by the next reseed
+    @Scheduled(fixedDelayString = "${app.stats.reseed-interval:600000}", initialDelayString = "${app.stats.reseed-interval:600000}")
+    public void reseed() {
+        var roles = new EnumMap<Role, Long>(Role.class);
+        long enabled = 0;
+        long locked = 0;
+        for (var row : shardRouter.fanOut(shard -> userRepository.countByState()).stream().flatMap(List::stream).toList()) {
+            roles.merge(row.getRole(), row.getUsers(), Long::sum);
+            enabled += row.getEnabled() ? row.getUsers() : 0;
+            locked += row.getAccountNonLocked() ? 0 : row.getUsers();
+        }
+        usersByRole.forEach((role, count) -> count.set(roles.getOrDefault(role, 0L)));
+        enabledUsers.set(enabled);
+        lockedUsers.set(locked);
+        seededAt = Instant.now();
+        logger.debug("User statistics seeded: {} users", totalUsers());
+    }
+
+    public void recordCreated(UserState state) {
+        apply(state, 1);
+    }
+
+    public void recordDeleted(UserState state) {
+        apply(state, -1);
+    }
+
+    public void recordChanged(UserState before, UserState after) {
+        if (!before.equals(after)) {
+            apply(before, -1);
+            apply(after, 1);
+        }
+    }
+
+    public void recordSignup() {
+        signups.add(Instant.now(), 1);
+    }
+
+    public void recordLogin() {
+        logins.add(Instant.now(), 1);
+    }
+
+    public UserStatsResponse snapshot() {
+        Instant now = Instant.now();
+        var roles = new EnumMap<Role, Long>(Role.class);
+        usersByRole.forEach((role, count) -> roles.put(role, count.get()));
+        long total = roles.values().stream().mapToLong(Long::longValue).sum();
+        long enabled = enabledUsers.get();
+        return new UserStatsResponse(
+                total,
+                Collections.unmodifiableMap(roles),
+                enabled,
+                total - enabled,
+                lockedUsers.get(),
+                signups.snapshot(now),
+                logins.snapshot(now),
+                seededAt
+        );
+    }
+
+    private long totalUsers() {
+        return usersByRole.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    private void apply(UserState state, long delta) {
+        usersByRole.get(state.role()).addAndGet(delta);
+        if (state.enabled()) {
+            enabledUsers.addAndGet(delta);
+        }
+        if (state.locked()) {
+            lockedUsers.addAndGet(delta);
+        }
+    }
+}
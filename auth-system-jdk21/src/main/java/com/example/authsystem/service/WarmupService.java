@@ -0,0 +1,118 @@
+package com.example.authsystem.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.example.authsystem.dto.AuthResponse;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.token.TokenType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Drives the hot auth paths through the JIT, Hikari and Hibernate before readiness reports UP
+@Service
+public class WarmupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupService.class);
+    private static final String WARMUP_EMAIL = "warmup@warmup.invalid";
+    private static final String WARMUP_PASSWORD = "warmup-password";
+
+    public enum State { PENDING, RUNNING, COMPLETED, DISABLED }
+
+    private final JwtService jwtService;
+    private final UserService userService;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.iterations:2000}")
+    private int iterations;
+
+    // BCrypt at strength 12 costs ~250ms, so password checks get their own small budget
+    @Value("${app.warmup.password-checks:4}")
+    private int passwordChecks;
+
+    @Value("${app.warmup.max-duration:PT30S}")
+    private Duration maxDuration;
+
+    private volatile State state = State.PENDING;
+    private final AtomicLong completedIterations = new AtomicLong();
+    private volatile long elapsedMillis;
+
+    public WarmupService(
+            JwtService jwtService,
+            UserService userService,
+            PasswordEncoder passwordEncoder,
+            ObjectMapper objectMapper
+    ) {
+        this.jwtService = jwtService;
+        this.userService = userService;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            state = State.DISABLED;
+            return;
+        }
+        Thread.ofPlatform().name("warmup").daemon().start(this::run);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getCompletedIterations() {
+        return completedIterations.get();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    private void run() {
+        state = State.RUNNING;
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        try {
+            // Synthetic, never persisted; no id means no uid/version claims are embedded
+            var user = new User("Warm", "Up", WARMUP_EMAIL, passwordEncoder.encode(WARMUP_PASSWORD));
+            var userInfo = AuthResponse.UserInfo.from(user);
+
+            for (int i = 0; i < passwordChecks && System.nanoTime() < deadline; i++) {
+                passwordEncoder.matches(WARMUP_PASSWORD, user.getPassword());
+            }
+
+            for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+                // Refresh tokens are always self-contained JWTs, so nothing lands in the reference store
+                var token = jwtService.generateToken(user, new TokenType.RefreshToken());
+                jwtService.validateToken(token);
+                jwtService.isRefreshToken(token);
+
+                userService.findByEmail(WARMUP_EMAIL);
+                userService.existsByEmail(WARMUP_EMAIL);
+
+                objectMapper.writeValueAsBytes(AuthResponse.success(token, token, 86400L, userInfo));
+                completedIterations.incrementAndGet();
+            }
+        } catch (Exception e) {
+            // Warm-up is best effort and must never keep the instance out of rotation
+            logger.warn("Warm-up aborted after {} iterations", completedIterations.get(), e);
+        } finally {
+            elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            state = State.COMPLETED;
+            logger.info("Warm-up completed: {} iterations in {} ms", completedIterations.get(), elapsedMillis);
+        }
+    }
+}
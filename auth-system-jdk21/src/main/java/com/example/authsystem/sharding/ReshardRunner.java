@@ -0,0 +1,123 @@
+package com.example.authsystem.sharding;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Offline resharding: start the application on the NEW shard set with
+// --app.sharding.reshard.from=<old shard JDBC URLs> (see scripts/sharding-demo.sh). Every user of
+// the old shards is copied to the shard its email hashes to, gets a new id in that shard's range,
+// and the process exits. Already copied emails are skipped, so an interrupted run can be repeated.
+// Token versions are carried over; the change log is not (nodes re-seed from users).
+@Component
+@ConditionalOnProperty(name = "app.sharding.reshard.from")
+public class ReshardRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReshardRunner.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final ShardRouter shardRouter;
+    private final ShardRoutingDataSource dataSource;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.sharding.reshard.from}")
+    private List<String> sourceUrls;
+
+    @Value("${app.sharding.username:sa}")
+    private String username;
+
+    @Value("${app.sharding.password:}")
+    private String password;
+
+    public ReshardRunner(ShardRouter shardRouter, ShardRoutingDataSource dataSource, ConfigurableApplicationContext context) {
+        this.shardRouter = shardRouter;
+        this.dataSource = dataSource;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        long copied = 0;
+        long read = 0;
+        for (String url : sourceUrls) {
+            try (Connection source = DriverManager.getConnection(url.strip(), username, password);
+                 var statement = source.createStatement()) {
+                statement.setFetchSize(BATCH_SIZE);
+                try (ResultSet rows = statement.executeQuery("select * from users order by id")) {
+                    var columns = columnsWithoutId(rows);
+                    Map<Integer, List<Object[]>> pending = new HashMap<>();
+                    while (rows.next()) {
+                        Object[] values = new Object[columns.size() + 1];
+                        for (int i = 0; i < columns.size(); i++) {
+                            values[i] = rows.getObject(columns.get(i));
+                        }
+                        // Trailing email parameter for the NOT EXISTS guard
+                        values[columns.size()] = rows.getString("email");
+                        int target = shardRouter.shardForEmail(rows.getString("email"));
+                        var batch = pending.computeIfAbsent(target, shard -> new ArrayList<>());
+                        batch.add(values);
+                        if (batch.size() == BATCH_SIZE) {
+                            copied += flush(target, columns, batch);
+                        }
+                    }
+                    for (var entry : pending.entrySet()) {
+                        copied += flush(entry.getKey(), columns, entry.getValue());
+                    }
+                }
+                try (ResultSet count = statement.executeQuery("select count(*) from users")) {
+                    count.next();
+                    logger.info("Read {} users from {}", count.getLong(1), url);
+                    read += count.getLong(1);
+                }
+            }
+        }
+        logger.info("Resharding finished: {} users copied into {} shards, {} already present",
+                copied, shardRouter.shardCount(), read - copied);
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private long flush(int shard, List<String> columns, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        String columnList = String.join(", ", columns);
+        String placeholders = String.join(", ", columns.stream().map(column -> "?").toList());
+        // id is left to the target shard's identity, which ShardSchemaInitializer moved into its range
+        String sql = "insert into users (" + columnList + ") select " + placeholders
+                + " where not exists (select 1 from users where email = ?)";
+        long inserted = 0;
+        for (int count : new JdbcTemplate(dataSource.shard(shard)).batchUpdate(sql, batch)) {
+            inserted += Math.max(count, 0);
+        }
+        batch.clear();
+        return inserted;
+    }
+
+    private static List<String> columnsWithoutId(ResultSet rows) throws SQLException {
+        var metaData = rows.getMetaData();
+        var columns = new ArrayList<String>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String column = metaData.getColumnName(i);
+            if (!column.equalsIgnoreCase("id")) {
+                columns.add(column);
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.authsystem.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.authsystem.entity.User;
+
+// Maps users to shards. Emails go through jump consistent hashing, so growing from N to M
+// shards only moves (M - N) / M of the users. Ids carry their shard in the bits above
+// ID_SHIFT: each shard's identity column starts at shard << ID_SHIFT, shard 0 keeps plain
+// 1, 2, 3... ids and every id stays below 2^53 (exact in JSON numbers).
+@Component
+public class ShardRouter {
+
+    public static final int MAX_SHARDS = 32;
+    public static final int ID_SHIFT = 48;
+
+    private final int shardCount;
+
+    public ShardRouter(
+            @Value("${app.sharding.enabled:false}") boolean enabled,
+            @Value("${app.sharding.urls:}") List<String> urls
+    ) {
+        this.shardCount = enabled ? urls.size() : 1;
+        if (shardCount < 1 || shardCount > MAX_SHARDS) {
+            throw new IllegalArgumentException("app.sharding.urls must list between 1 and " + MAX_SHARDS + " databases");
+        }
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardForEmail(String email) {
+        return shardForEmail(email, shardCount);
+    }
+
+    public int shardForUser(User user) {
+        return user.getId() != null ? shardOf(user.getId()) : shardForEmail(user.getEmail());
+    }
+
+    public static int shardForEmail(String email, int shardCount) {
+        return jumpHash(fnv1a64(email.strip().toLowerCase(Locale.ROOT)), shardCount);
+    }
+
+    public static int shardOf(long id) {
+        return (int) (id >>> ID_SHIFT);
+    }
+
+    public static long idBase(int shard) {
+        return (long) shard << ID_SHIFT;
+    }
+
+    public <T> T onShardForEmail(String email, Supplier<T> work) {
+        return ShardContext.call(shardForEmail(email), work);
+    }
+
+    public <T> T onShardOf(long id, Supplier<T> work) {
+        return ShardContext.call(shardOf(id), work);
+    }
+
+    // Runs work on every shard in parallel (one virtual thread each) and returns results in shard order
+    public <T> List<T> fanOut(IntFunction<T> work) {
+        if (shardCount == 1) {
+            // Not List.of: work may return null, as it does for side-effect-only fan-outs
+            return Collections.singletonList(ShardContext.call(0, () -> work.apply(0)));
+        }
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = new ArrayList<Future<T>>(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                int target = shard;
+                futures.add(executor.submit(() -> ShardContext.call(target, () -> work.apply(target))));
+            }
+            var results = new ArrayList<T>(shardCount);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during shard fan-out", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Shard fan-out failed", e.getCause());
+        }
+    }
+
+    private static long fnv1a64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Lamping & Veach, "A Fast, Minimal Memory, Consistent Hash Algorithm"
+    private static int jumpHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+}
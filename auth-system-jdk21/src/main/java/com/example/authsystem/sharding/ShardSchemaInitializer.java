@@ -0,0 +1,61 @@
+package com.example.authsystem.sharding;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.tool.schema.spi.SchemaManagementException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Hibernate's ddl-auto only sees the default shard, so the sharded profile turns it off and
+// this creates the mapped schema on every shard before any request or startup job runs.
+// It also moves each shard's users identity to its id range (see ShardRouter).
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ShardRoutingDataSource dataSource;
+    private final ShardRouter shardRouter;
+
+    public ShardSchemaInitializer(
+            EntityManagerFactory entityManagerFactory,
+            ShardRoutingDataSource dataSource,
+            ShardRouter shardRouter
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        var schemaManager = entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            ShardContext.run(shard, () -> {
+                try {
+                    schemaManager.validateMappedObjects();
+                } catch (SchemaManagementException e) {
+                    schemaManager.exportMappedObjects(true);
+                }
+            });
+            alignIdentity(shard);
+        }
+        logger.info("Schema ready on {} shards", shardRouter.shardCount());
+    }
+
+    private void alignIdentity(int shard) {
+        var jdbc = new JdbcTemplate(dataSource.shard(shard));
+        long base = ShardRouter.idBase(shard);
+        Long maxId = jdbc.queryForObject("select coalesce(max(id), 0) from users", Long.class);
+        if (maxId != null && maxId < base) {
+            jdbc.execute("alter table users alter column id restart with " + (base + 1));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.authsystem.sharding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Replaces the single auto-configured DataSource with one Hikari pool per shard (see application-sharded.properties)
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRoutingDataSource dataSource(
+            @Value("${app.sharding.urls}") List<String> urls,
+            @Value("${app.sharding.username:sa}") String username,
+            @Value("${app.sharding.password:}") String password,
+            @Value("${app.sharding.pool-size:10}") int poolSize,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        Map<Object, Object> shards = new HashMap<>();
+        for (int shard = 0; shard < urls.size(); shard++) {
+            var pool = new HikariDataSource();
+            pool.setJdbcUrl(urls.get(shard).strip());
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setPoolName("shard-" + shard);
+            pool.setMaximumPoolSize(poolSize);
+            pool.setLeakDetectionThreshold(2000);
+            // Same hikaricp.connections.* meters as the single pool, tagged pool=shard-N
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            shards.put(shard, pool);
+        }
+
+        var routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(shards);
+        routing.setDefaultTargetDataSource(shards.get(0));
+        return routing;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.authsystem.validation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+// Rejects passwords found in the local breached-password corpus (BreachedPasswordIndex)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = NotBreachedValidator.class)
+public @interface NotBreached {
+
+    String message() default "Password has appeared in a data breach, choose a different one";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
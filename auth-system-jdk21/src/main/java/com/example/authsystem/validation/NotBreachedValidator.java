@@ -0,0 +1,22 @@
+package com.example.authsystem.validation;
+
+import com.example.authsystem.service.BreachedPasswordIndex;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+// Instantiated by Spring's constraint validator factory, so the index is constructor-injected
+public class NotBreachedValidator implements ConstraintValidator<NotBreached, CharSequence> {
+
+    private final BreachedPasswordIndex breachedPasswordIndex;
+
+    public NotBreachedValidator(BreachedPasswordIndex breachedPasswordIndex) {
+        this.breachedPasswordIndex = breachedPasswordIndex;
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        // Blank and length rules are reported by their own constraints
+        return value == null || value.isEmpty() || !breachedPasswordIndex.isBreached(value);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.authsystem.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.authsystem.entity.Permission;
+import com.example.authsystem.entity.Role;
+import com.example.authsystem.filter.PermissionAuthenticationToken;
+
+class BitmaskPermissionEvaluatorTest {
+
+    private final BitmaskPermissionEvaluator evaluator = new BitmaskPermissionEvaluator();
+    private final PermissionAuthenticationToken admin =
+            new PermissionAuthenticationToken("admin@example.com", List.of(), Role.ADMIN.getPermissions());
+    private final PermissionAuthenticationToken user =
+            new PermissionAuthenticationToken("user@example.com", List.of(), Role.USER.getPermissions());
+
+    @Test
+    void grantsWhenTheMaskHoldsThePermission() {
+        assertTrue(evaluator.hasPermission(admin, null, "MANAGE_USERS"));
+        assertTrue(evaluator.hasPermission(user, null, Permission.READ_PROFILE));
+        assertFalse(evaluator.hasPermission(user, null, "MANAGE_USERS"));
+    }
+
+    @Test
+    void deniesUnknownPermissionNamesInsteadOfThrowing() {
+        assertFalse(evaluator.hasPermission(admin, null, "MANAGE_USRES"));
+        assertFalse(evaluator.hasPermission(admin, 1L, "User", "MANAGE_USRES"));
+        assertFalse(evaluator.hasPermission(admin, null, 42));
+        assertFalse(evaluator.hasPermission(admin, null, null));
+    }
+}
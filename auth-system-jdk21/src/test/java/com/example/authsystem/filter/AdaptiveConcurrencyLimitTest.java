@@ -0,0 +1,134 @@
+package com.example.authsystem.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    void growsWhileSaturatedAtSteadyLatency() {
+        var limit = new AdaptiveConcurrencyLimit("test", 10, 2, 50);
+
+        saturate(limit, FAST, 5);
+        assertTrue(limit.getLimit() > 10, "limit " + limit.getLimit());
+
+        saturate(limit, FAST, 200);
+        assertEquals(50, limit.getLimit());
+    }
+
+    @Test
+    void doesNotGrowWithoutLoad() {
+        var limit = new AdaptiveConcurrencyLimit("test", 10, 2, 50);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.onSuccess(FAST);
+        }
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAboveTheBaseline() {
+        var limit = new AdaptiveConcurrencyLimit("test", 10, 2, 50);
+        saturate(limit, FAST, 10);
+        int grown = limit.getLimit();
+
+        saturate(limit, SLOW, 3);
+        int shrunk = limit.getLimit();
+        assertTrue(shrunk < grown, grown + " -> " + shrunk);
+
+        saturate(limit, SLOW, 20);
+        assertTrue(limit.getLimit() < shrunk, shrunk + " -> " + limit.getLimit());
+    }
+
+    @Test
+    void dropsBackOffMultiplicativelyDownToTheMinimum() {
+        var limit = new AdaptiveConcurrencyLimit("test", 20, 3, 50);
+
+        assertTrue(limit.tryAcquire());
+        limit.onDropped();
+        assertEquals(18, limit.getLimit());
+        assertEquals(0, limit.getInflight());
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.onDropped();
+        }
+        assertEquals(3, limit.getLimit());
+
+        // The minimum is still enforced as a concurrency cap
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+        assertFalse(limit.tryAcquire());
+        assertEquals(1, limit.getRejected());
+    }
+
+    // A saturated /api/auth group must not reject token-authenticated traffic, and vice versa
+    @Test
+    void filterKeepsGroupsIsolated() throws Exception {
+        var filter = new ConcurrencyLimitFilter(new SimpleMeterRegistry(), 1, 1, 1, 1, 1, 1);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+
+        var statuses = new ArrayList<Integer>();
+        filter.doFilter(authRequest(), new MockHttpServletResponse(), (request, response) -> {
+            // Inside the only auth slot: a second auth request is rejected, a bearer request is not
+            statuses.add(run(filter, authRequest()));
+            statuses.add(run(filter, bearerRequest()));
+        });
+        filter.doFilter(bearerRequest(), new MockHttpServletResponse(), (request, response) -> {
+            statuses.add(run(filter, bearerRequest()));
+            statuses.add(run(filter, authRequest()));
+        });
+
+        assertEquals(List.of(503, 200, 503, 200), statuses);
+    }
+
+    // Fills every slot, then completes them all at the given latency
+    private static void saturate(AdaptiveConcurrencyLimit limit, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.onSuccess(rttNanos);
+            }
+        }
+    }
+
+    private static int run(ConcurrencyLimitFilter filter, MockHttpServletRequest request) {
+        var response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, (req, res) -> { });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest authRequest() {
+        return new MockHttpServletRequest("POST", "/api/auth/login");
+    }
+
+    private static MockHttpServletRequest bearerRequest() {
+        var request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+}
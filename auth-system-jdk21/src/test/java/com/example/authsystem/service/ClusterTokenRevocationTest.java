@@ -0,0 +1,67 @@
+package com.example.authsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.authsystem.AuthSystemApplication;
+import com.example.authsystem.entity.Role;
+import com.example.authsystem.entity.User;
+import com.example.authsystem.token.TokenType;
+import com.example.authsystem.token.TokenValidationResult;
+
+// Two application instances in one JVM sharing a named in-memory H2 database, standing in for the
+// cluster profile's shared TCP server. The first creates the schema, the second only validates it.
+class ClusterTokenRevocationTest {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:cluster-revocation;DB_CLOSE_DELAY=-1";
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void roleChangeOnOneNodeRevokesTokensOnTheOther() throws InterruptedException {
+        try (var nodeA = startNode("create"); var nodeB = startNode("validate")) {
+            var users = nodeA.getBean(UserService.class);
+            User user = users.save(new User("Cluster", "Member", "cluster.member@example.com", "not-a-real-hash"));
+            String token = nodeA.getBean(JwtService.class).generateToken(user, new TokenType.AccessToken());
+
+            var jwtServiceB = nodeB.getBean(JwtService.class);
+            assertInstanceOf(TokenValidationResult.Valid.class, jwtServiceB.validateToken(token));
+
+            users.changeRole(user.getId(), Role.ADMIN);
+
+            // Node A records its own change on commit; node B has to pick it up from user_change_log
+            assertInstanceOf(TokenValidationResult.Revoked.class, nodeA.getBean(JwtService.class).validateToken(token));
+            assertInstanceOf(TokenValidationResult.Revoked.class, awaitRevoked(jwtServiceB, token));
+        }
+    }
+
+    private static TokenValidationResult awaitRevoked(JwtService jwtService, String token) throws InterruptedException {
+        Instant deadline = Instant.now().plus(PROPAGATION_TIMEOUT);
+        TokenValidationResult result = jwtService.validateToken(token);
+        while (!(result instanceof TokenValidationResult.Revoked) && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+            result = jwtService.validateToken(token);
+        }
+        return result;
+    }
+
+    // Passed as arguments because the cluster profile's own properties outrank builder defaults
+    private static ConfigurableApplicationContext startNode(String ddlAuto) {
+        return new SpringApplicationBuilder(AuthSystemApplication.class)
+                .profiles("cluster")
+                .run(
+                        "--spring.datasource.url=" + DATABASE_URL,
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--spring.jpa.show-sql=false",
+                        "--server.port=0",
+                        "--app.warmup.enabled=false",
+                        "--app.jwt.token-version.poll-interval=100",
+                        "--app.search-index.rebuild-on-startup=false"
+                );
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.authsystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.authsystem.dto.AuthResponse;
+
+class UserSearchIndexTest {
+
+    // put and search never touch the repository or shards
+    private final UserSearchIndex index = new UserSearchIndex(null, null, null);
+
+    @Test
+    void findsUsersByAnyWordOfMultiWordNames() {
+        index.put(user(1L, "Mary Ann", "van der Berg", "mary@example.com"));
+        index.put(user(2L, "Ann", "Bergström", "ann@example.com"));
+
+        assertEquals(List.of(1L), ids(index.search("mary", 10)));
+        assertEquals(List.of(1L), ids(index.search("der", 10)));
+        assertEquals(List.of(1L), ids(index.search("van der berg", 10)));
+        assertEquals(List.of(1L), ids(index.search("berg mary", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search("ann", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search("berg", 10)));
+        assertEquals(List.of(2L), ids(index.search("ann bergst", 10)));
+        assertTrue(index.search("mary bergst", 10).isEmpty());
+    }
+
+    @Test
+    void renamesDropTheOldWords() {
+        index.put(user(1L, "Mary Ann", "Smith", "mary@example.com"));
+        index.put(user(1L, "Mary", "Jones Smith", "mary@example.com"));
+
+        assertTrue(index.search("ann", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("jones", 10)));
+        assertEquals(List.of(1L), ids(index.search("smith mary", 10)));
+
+        index.remove(1L);
+        assertTrue(index.search("mary", 10).isEmpty());
+    }
+
+    private static AuthResponse.UserInfo user(Long id, String firstName, String lastName, String email) {
+        return new AuthResponse.UserInfo(id, firstName, lastName, email, "USER");
+    }
+
+    private static List<Long> ids(List<AuthResponse.UserInfo> users) {
+        return users.stream().map(AuthResponse.UserInfo::id).toList();
+    }
+}
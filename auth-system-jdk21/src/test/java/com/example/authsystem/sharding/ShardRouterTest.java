@@ -0,0 +1,103 @@
+package com.example.authsystem.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ShardRouterTest {
+
+    private static final int EMAILS = 20_000;
+
+    // Pinned so a change to the hash or normalization, which would strand existing users, fails here
+    @Test
+    void emailToShardMappingIsStable() {
+        assertEquals(4, ShardRouter.shardForEmail("alice@example.com", 8));
+        assertEquals(3, ShardRouter.shardForEmail("bob@example.com", 8));
+        assertEquals(6, ShardRouter.shardForEmail("carol@example.org", 8));
+
+        for (int i = 0; i < 1000; i++) {
+            String email = "user" + i + "@example.com";
+            int shard = ShardRouter.shardForEmail(email, 8);
+            assertEquals(shard, ShardRouter.shardForEmail(email, 8));
+            assertEquals(shard, ShardRouter.shardForEmail("  USER" + i + "@Example.COM ", 8));
+        }
+    }
+
+    @Test
+    void everyEmailMapsToShardZeroWithOneShard() {
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, ShardRouter.shardForEmail("user" + i + "@example.com", 1));
+        }
+    }
+
+    @Test
+    void growingShardsOnlyMovesUsersOntoNewShards() {
+        assertMinimalMovement(4, 5);
+        assertMinimalMovement(8, 12);
+        assertMinimalMovement(1, 32);
+    }
+
+    @Test
+    void emailsSpreadEvenlyAcrossShards() {
+        int shards = 8;
+        int[] counts = new int[shards];
+        for (int i = 0; i < EMAILS; i++) {
+            counts[ShardRouter.shardForEmail("user" + i + "@example.com", shards)]++;
+        }
+        double expected = (double) EMAILS / shards;
+        for (int count : counts) {
+            assertTrue(Math.abs(count - expected) < expected * 0.1, "shard load " + count + " vs " + expected);
+        }
+    }
+
+    @Test
+    void idsCarryTheirShard() {
+        long[] offsets = {1, 2, 1_000_000, (1L << ShardRouter.ID_SHIFT) - 1};
+        for (int shard = 0; shard < ShardRouter.MAX_SHARDS; shard++) {
+            for (long k : offsets) {
+                assertEquals(shard, ShardRouter.shardOf(ShardRouter.idBase(shard) + k));
+            }
+        }
+        // Highest id of the last shard still fits a JSON number exactly
+        assertTrue(ShardRouter.idBase(ShardRouter.MAX_SHARDS) - 1 < (1L << 53));
+    }
+
+    @Test
+    void rejectsShardCountsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRouter(true, List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardRouter(true, Collections.nCopies(ShardRouter.MAX_SHARDS + 1, "jdbc:h2:mem:shard")));
+        assertEquals(1, new ShardRouter(false, List.of()).shardCount());
+    }
+
+    @Test
+    void fanOutAllowsNullResults() {
+        var results = new ShardRouter(false, List.of()).fanOut(shard -> null);
+        assertEquals(1, results.size());
+        assertNull(results.get(0));
+    }
+
+    // Jump hashing moves a key only onto one of the added shards, and about (M - N) / M of them
+    private static void assertMinimalMovement(int from, int to) {
+        int moved = 0;
+        for (int i = 0; i < EMAILS; i++) {
+            String email = "user" + i + "@example.com";
+            int before = ShardRouter.shardForEmail(email, from);
+            int after = ShardRouter.shardForEmail(email, to);
+            if (before != after) {
+                moved++;
+                assertTrue(after >= from, email + " moved from shard " + before + " to existing shard " + after);
+            }
+        }
+        double expected = (double) (to - from) / to;
+        double actual = (double) moved / EMAILS;
+        assertTrue(Math.abs(actual - expected) < 0.02,
+                "moved " + actual + " of users growing " + from + " -> " + to + ", expected about " + expected);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.authsystem.reactive.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.authsystem.reactive.dto.AuthResponse;
+import com.example.authsystem.reactive.dto.LoginRequest;
+import com.example.authsystem.reactive.dto.SignUpRequest;
+import com.example.authsystem.reactive.service.ReactiveAuthService;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import reactor.core.publisher.Mono;
+
+// Same /api/auth contract as the servlet AuthController
+@RestController
+@RequestMapping("/api/auth")
+@CrossOrigin(origins = "*")
+public class ReactiveAuthController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveAuthController.class);
+    
+    private final ReactiveAuthService authService;
+    
+    public ReactiveAuthController(ReactiveAuthService authService) {
+        this.authService = authService;
+    }
+    
+    @PostMapping("/signup")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<AuthResponse> signUp(@Valid @RequestBody SignUpRequest request) {
+        logger.info("Registration request received for email: {}", request.email());
+        return authService.signUp(request);
+    }
+    
+    @PostMapping("/login")
+    public Mono<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+        logger.info("Login request received for email: {}", request.email());
+        return authService.login(request);
+    }
+    
+    @PostMapping("/refresh")
+    public Mono<AuthResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        logger.info("Token refresh request received");
+        return authService.refreshToken(request.refreshToken());
+    }
+    
+    public record RefreshTokenRequest(
+            @NotBlank(message = "Refresh token is required")
+            String refreshToken
+    ) {}
+}
@@ -0,0 +1,33 @@
+package com.example.authsystem.reactive.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.authsystem.reactive.dto.AuthResponse;
+import com.example.authsystem.reactive.service.ReactiveAuthService;
+
+import reactor.core.publisher.Mono;
+
+// Bearer-authenticated read path, exercises JwtAuthenticationWebFilter plus one R2DBC lookup
+@RestController
+@RequestMapping("/api/users")
+public class ReactiveUserController {
+
+    private final ReactiveAuthService authService;
+
+    public ReactiveUserController(ReactiveAuthService authService) {
+        this.authService = authService;
+    }
+
+    @GetMapping("/me")
+    public Mono<ResponseEntity<AuthResponse.UserInfo>> me(Mono<Principal> principal) {
+        return principal
+                .flatMap(p -> authService.currentUser(p.getName()))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.authsystem.reactive.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.authsystem.reactive.entity.UserRecord;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Same JSON shape as the servlet application's AuthResponse
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuthResponse(
+    String accessToken,
+    String refreshToken,
+    String tokenType,
+    Long expiresIn,
+    String message,
+    UserInfo userInfo,
+    LocalDateTime timestamp
+) {
+    
+    public static AuthResponse success(String accessToken, String refreshToken, Long expiresIn, UserInfo userInfo) {
+        return new AuthResponse(
+            accessToken,
+            refreshToken,
+            "Bearer",
+            expiresIn,
+            "Authentication successful",
+            userInfo,
+            LocalDateTime.now()
+        );
+    }
+    
+    public record UserInfo(
+        Long id,
+        String firstName,
+        String lastName,
+        String email,
+        String role
+    ) {
+        public static UserInfo from(UserRecord user) {
+            return new UserInfo(
+                user.id(),
+                user.firstName(),
+                user.lastName(),
+                user.email(),
+                user.role()
+            );
+        }
+    }
+}
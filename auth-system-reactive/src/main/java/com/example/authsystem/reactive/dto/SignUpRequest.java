@@ -0,0 +1,23 @@
+package com.example.authsystem.reactive.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record SignUpRequest(
+        @NotBlank(message = "First name is required")
+        @Size(max = 50, message = "First name must be less than 50 characters")
+        String firstName,
+        @NotBlank(message = "Last name is required")
+        @Size(max = 50, message = "Last name must be less than 50 characters")
+        String lastName,
+        @NotBlank(message = "Email is required")
+        @Email(message = "Email should be valid")
+        @Size(max = 100, message = "Email must be less than 100 characters")
+        String email,
+        @NotBlank(message = "Password is required")
+        @Size(min = 6, max = 100, message = "Password must be between 6 and 100 characters")
+        String password
+        ) {
+
+}
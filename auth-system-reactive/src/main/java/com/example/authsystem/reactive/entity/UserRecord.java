@@ -0,0 +1,44 @@
+package com.example.authsystem.reactive.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+// R2DBC view of the same users table the JPA User entity maps
+@Table("users")
+public record UserRecord(
+        @Id Long id,
+        String firstName,
+        String lastName,
+        String email,
+        String password,
+        String role,
+        @Column("is_enabled") boolean enabled,
+        boolean accountNonExpired,
+        boolean accountNonLocked,
+        boolean credentialsNonExpired,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime lastLogin,
+        int tokenVersion
+) {
+
+    public static UserRecord newUser(String firstName, String lastName, String email, String encodedPassword) {
+        var now = LocalDateTime.now();
+        return new UserRecord(
+                null, firstName, lastName, email, encodedPassword, "USER",
+                true, true, true, true,
+                now, now, null, 0
+        );
+    }
+
+    public boolean canAuthenticate() {
+        return enabled && accountNonExpired && accountNonLocked && credentialsNonExpired;
+    }
+
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+}
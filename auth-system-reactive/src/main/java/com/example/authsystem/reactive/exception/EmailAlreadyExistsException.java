@@ -0,0 +1,7 @@
+package com.example.authsystem.reactive.exception;
+
+public class EmailAlreadyExistsException extends RuntimeException {
+    public EmailAlreadyExistsException(String message) {
+        super(message);
+    }
+}
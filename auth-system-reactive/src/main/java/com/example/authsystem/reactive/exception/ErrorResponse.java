@@ -0,0 +1,14 @@
+package com.example.authsystem.reactive.exception;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ErrorResponse(int status, String message, Map<String, String> errors, LocalDateTime timestamp) {
+
+    public static ErrorResponse of(int status, String message) {
+        return new ErrorResponse(status, message, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.authsystem.reactive.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.example.authsystem.reactive.service.ReactiveJwtService;
+import com.example.authsystem.token.TokenType;
+import com.example.authsystem.token.TokenValidationResult;
+
+import reactor.core.publisher.Mono;
+
+// WebFlux counterpart of JwtAuthenticationFilter. Token verification is pure CPU work, so it
+// runs on the event loop and the authentication is carried in the Reactor context. Registered
+// only inside the security chain (not a @Component) so WebFlux does not apply it twice.
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationWebFilter.class);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ReactiveJwtService jwtService;
+
+    public JwtAuthenticationWebFilter(ReactiveJwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        final String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        // Early return if no auth header or not Bearer token
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+
+        final String jwt = authHeader.substring(BEARER_PREFIX.length());
+
+        // JDK 21 Pattern matching for token validation
+        return switch (jwtService.validateToken(jwt, new TokenType.AccessToken())) {
+            case TokenValidationResult.Valid(String userEmail, Integer permissions, Instant expiresAt) -> {
+                var authentication = new UsernamePasswordAuthenticationToken(userEmail, null, List.of());
+                yield chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+            }
+            case TokenValidationResult.Expired(String userEmail) -> {
+                logger.warn("Expired token for user: {}", userEmail);
+                yield reject(exchange, "Token expired");
+            }
+            case TokenValidationResult.Revoked(String userEmail) -> {
+                logger.warn("Revoked token for user: {}", userEmail);
+                yield reject(exchange, "Token revoked");
+            }
+            case TokenValidationResult.Invalid(String reason) -> {
+                logger.warn("Invalid token: {}", reason);
+                yield reject(exchange, "Invalid token");
+            }
+        };
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String error) {
+        var response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        var body = response.bufferFactory().wrap(("{\"error\":\"" + error + "\"}").getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.authsystem.reactive.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.authsystem.reactive.entity.UserRecord;
+
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveUserRepository extends ReactiveCrudRepository<UserRecord, Long> {
+
+    Mono<UserRecord> findByEmail(String email);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    // Single-column update instead of re-saving the whole row after login
+    @Modifying
+    @Query("UPDATE users SET last_login = :lastLogin WHERE id = :id")
+    Mono<Integer> updateLastLogin(Long id, LocalDateTime lastLogin);
+}
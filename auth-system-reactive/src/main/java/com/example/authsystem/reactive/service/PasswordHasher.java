@@ -0,0 +1,57 @@
+package com.example.authsystem.reactive.service;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+// BCrypt costs tens of milliseconds of CPU per call and must never run on an event-loop thread.
+// Calls are offloaded to a bounded scheduler; once its queue is full, subscribers receive a
+// RejectedExecutionException (503) instead of piling up unbounded work.
+@Service
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler scheduler;
+    // Encoded with the live encoder so it costs the same to check as a real user's hash
+    private final String dummyHash;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Value("${app.password-hashing.threads:0}") int threads,
+            @Value("${app.password-hashing.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        // BCrypt is CPU-bound, more threads than cores only adds context switching
+        int threadCap = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.scheduler = Schedulers.newBoundedElastic(threadCap, queueCapacity, "password-hash");
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    public Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword))
+                .subscribeOn(scheduler);
+    }
+
+    public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword))
+                .subscribeOn(scheduler);
+    }
+
+    // Spends one full hash check for a login whose user does not exist, so the response time does not
+    // reveal which emails are registered. Always false.
+    public Mono<Boolean> matchesDummy(String rawPassword) {
+        return matches(rawPassword, dummyHash).map(matched -> false);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.authsystem.reactive.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.stereotype.Service;
+
+import com.example.authsystem.reactive.dto.AuthResponse;
+import com.example.authsystem.reactive.dto.LoginRequest;
+import com.example.authsystem.reactive.dto.SignUpRequest;
+import com.example.authsystem.reactive.entity.UserRecord;
+import com.example.authsystem.reactive.exception.EmailAlreadyExistsException;
+import com.example.authsystem.reactive.exception.InvalidTokenException;
+import com.example.authsystem.reactive.repository.ReactiveUserRepository;
+import com.example.authsystem.token.TokenClaims;
+import com.example.authsystem.token.TokenType;
+import com.example.authsystem.token.TokenValidationResult;
+
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveAuthService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveAuthService.class);
+    
+    private final ReactiveUserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final ReactiveJwtService jwtService;
+    
+    // Fraction of the refresh token lifetime below which /refresh also returns a new refresh token
+    @Value("${app.jwt.refresh-reissue-threshold:0.5}")
+    private double refreshReissueThreshold;
+    
+    public ReactiveAuthService(
+            ReactiveUserRepository userRepository,
+            PasswordHasher passwordHasher,
+            ReactiveJwtService jwtService
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.jwtService = jwtService;
+    }
+    
+    public Mono<AuthResponse> signUp(SignUpRequest request) {
+        logger.info("Attempting to register user with email: {}", request.email());
+        
+        return userRepository.existsByEmail(request.email())
+                .flatMap(exists -> exists
+                        ? Mono.error(new EmailAlreadyExistsException("Email already exists: " + request.email()))
+                        : passwordHasher.encode(request.password()))
+                .map(encoded -> UserRecord.newUser(request.firstName(), request.lastName(), request.email(), encoded))
+                .flatMap(userRepository::save)
+                .map(user -> {
+                    logger.info("Successfully registered user: {}", user.email());
+                    return issueTokens(user, Map.of(), true);
+                });
+    }
+    
+    public Mono<AuthResponse> login(LoginRequest request) {
+        logger.info("Attempting to authenticate user: {}", request.email());
+        
+        return userRepository.findByEmail(request.email())
+                .switchIfEmpty(Mono.defer(() -> passwordHasher.matchesDummy(request.password())
+                        .then(Mono.error(() -> new BadCredentialsException("Bad credentials")))))
+                .filterWhen(user -> passwordHasher.matches(request.password(), user.password()))
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("Bad credentials")))
+                .flatMap(user -> user.canAuthenticate()
+                        ? userRepository.updateLastLogin(user.id(), LocalDateTime.now()).thenReturn(user)
+                        : Mono.error(new DisabledException("User is disabled")))
+                .map(user -> {
+                    logger.info("Successfully authenticated user: {}", user.email());
+                    return issueTokens(user, Map.of(
+                            TokenClaims.ROLE, user.role(),
+                            TokenClaims.FULL_NAME, user.fullName()
+                    ), true);
+                });
+    }
+    
+    public Mono<AuthResponse> refreshToken(String refreshToken) {
+        logger.info("Attempting to refresh token");
+        
+        // JDK 21 Pattern matching for token validation
+        return switch (jwtService.validateToken(refreshToken, new TokenType.RefreshToken())) {
+            case TokenValidationResult.Valid(String userEmail, Integer permissions, Instant expiresAt) ->
+                userRepository.findByEmail(userEmail)
+                        .filter(UserRecord::canAuthenticate)
+                        .switchIfEmpty(Mono.error(() -> new InvalidTokenException("Refresh token revoked")))
+                        .map(user -> {
+                            logger.info("Successfully refreshed token for user: {}", userEmail);
+                            return issueTokens(user, Map.of(), shouldReissueRefreshToken(expiresAt));
+                        });
+            case TokenValidationResult.Expired(String userEmail) -> {
+                logger.warn("Refresh token expired for user: {}", userEmail);
+                yield Mono.error(new InvalidTokenException("Refresh token expired"));
+            }
+            case TokenValidationResult.Revoked(String userEmail) -> {
+                logger.warn("Refresh token revoked for user: {}", userEmail);
+                yield Mono.error(new InvalidTokenException("Refresh token revoked"));
+            }
+            case TokenValidationResult.Invalid(String reason) -> {
+                logger.warn("Invalid refresh token: {}", reason);
+                yield Mono.error(new InvalidTokenException("Invalid refresh token"));
+            }
+        };
+    }
+    
+    public Mono<AuthResponse.UserInfo> currentUser(String email) {
+        return userRepository.findByEmail(email).map(AuthResponse.UserInfo::from);
+    }
+    
+    private AuthResponse issueTokens(UserRecord user, Map<String, Object> accessClaims, boolean includeRefreshToken) {
+        var accessToken = jwtService.generateToken(accessClaims, user, new TokenType.AccessToken());
+        var refreshToken = includeRefreshToken
+                ? jwtService.generateToken(user, new TokenType.RefreshToken())
+                : null;
+        
+        return AuthResponse.success(
+                accessToken,
+                refreshToken,
+                jwtService.getAccessTokenLifetime().toSeconds(),
+                AuthResponse.UserInfo.from(user)
+        );
+    }
+    
+    private boolean shouldReissueRefreshToken(Instant expiresAt) {
+        var remaining = Duration.between(Instant.now(), expiresAt);
+        var threshold = Duration.ofMillis((long) (jwtService.getRefreshTokenLifetime().toMillis() * refreshReissueThreshold));
+        return remaining.compareTo(threshold) < 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.authsystem.token;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+// Per-request cost of validating an access token: core verifier vs. a prebuilt jjwt parser
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerifierBenchmark {
+
+    private TokenVerifier verifier;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] key = "benchmark-secret-key-that-is-at-least-256-bits-long".getBytes(StandardCharsets.UTF_8);
+        SecretKey secretKey = Keys.hmacShaKeyFor(key);
+        var now = Instant.now();
+
+        // Same claim set JwtService puts on an access token
+        token = Jwts.builder()
+                .subject("jane.doe@example.com")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(3600)))
+                .claim(TokenClaims.TOKEN_TYPE, TokenClaims.ACCESS)
+                .claim(TokenClaims.USER_ID, 42L)
+                .claim(TokenClaims.TOKEN_VERSION, 3)
+                .claim(TokenClaims.PERMISSIONS, 0b11)
+                .claim(TokenClaims.ROLE, "USER")
+                .claim(TokenClaims.FULL_NAME, "Jane Doe")
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+
+        verifier = new TokenVerifier(key);
+        parser = Jwts.parser().verifyWith(secretKey).build();
+    }
+
+    @Benchmark
+    public TokenValidationResult tokenVerifier() {
+        return verifier.verify(token, new TokenType.AccessToken(), TokenVerifier.VersionCheck.NONE);
+    }
+
+    @Benchmark
+    public Claims jjwt() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
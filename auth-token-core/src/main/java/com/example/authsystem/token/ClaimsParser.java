@@ -0,0 +1,251 @@
+package com.example.authsystem.token;
+
+import java.nio.charset.StandardCharsets;
+
+// Single-pass scanner over a JWT JSON object that extracts only the claims the verifier needs
+// and skips everything else (including nested values) without building a tree
+final class ClaimsParser {
+
+    record ParsedClaims(
+            String subject,
+            String tokenType,
+            String algorithm,
+            Long expiresAt,
+            Long userId,
+            Integer tokenVersion,
+            Integer permissions
+    ) {
+    }
+
+    private final byte[] json;
+    private int pos;
+
+    private String subject;
+    private String tokenType;
+    private String algorithm;
+    private Long expiresAt;
+    private Long userId;
+    private Integer tokenVersion;
+    private Integer permissions;
+
+    private ClaimsParser(byte[] json) {
+        this.json = json;
+    }
+
+    static ParsedClaims parse(byte[] json) {
+        var parser = new ClaimsParser(json);
+        parser.parseObject();
+        return new ParsedClaims(
+                parser.subject,
+                parser.tokenType,
+                parser.algorithm,
+                parser.expiresAt,
+                parser.userId,
+                parser.tokenVersion,
+                parser.permissions
+        );
+    }
+
+    private void parseObject() {
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return;
+        }
+        while (true) {
+            skipWhitespace();
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            switch (key) {
+                case TokenClaims.SUBJECT -> subject = readStringOrSkip();
+                case TokenClaims.TOKEN_TYPE -> tokenType = readStringOrSkip();
+                case "alg" -> algorithm = readStringOrSkip();
+                // NumericDate may be fractional (RFC 7519), ids and masks may not
+                case TokenClaims.EXPIRATION -> expiresAt = readLong(true);
+                case TokenClaims.USER_ID -> userId = readLong(false);
+                case TokenClaims.TOKEN_VERSION -> tokenVersion = readInt();
+                case TokenClaims.PERMISSIONS -> permissions = readInt();
+                default -> skipValue();
+            }
+            skipWhitespace();
+            byte next = next();
+            if (next == '}') {
+                return;
+            }
+            if (next != ',') {
+                throw malformed();
+            }
+        }
+    }
+
+    private String readStringOrSkip() {
+        if (peek() == '"') {
+            return readString();
+        }
+        skipValue();
+        return null;
+    }
+
+    private String readString() {
+        expect('"');
+        int start = pos;
+        while (true) {
+            byte b = next();
+            if (b == '"') {
+                return new String(json, start, pos - start - 1, StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                pos = start;
+                return readEscapedString();
+            }
+        }
+    }
+
+    private String readEscapedString() {
+        var builder = new StringBuilder();
+        int segmentStart = pos;
+        while (true) {
+            byte b = next();
+            if (b == '"') {
+                builder.append(new String(json, segmentStart, pos - segmentStart - 1, StandardCharsets.UTF_8));
+                return builder.toString();
+            }
+            if (b == '\\') {
+                builder.append(new String(json, segmentStart, pos - segmentStart - 1, StandardCharsets.UTF_8));
+                byte escaped = next();
+                switch (escaped) {
+                    case '"', '\\', '/' -> builder.append((char) escaped);
+                    case 'b' -> builder.append('\b');
+                    case 'f' -> builder.append('\f');
+                    case 'n' -> builder.append('\n');
+                    case 'r' -> builder.append('\r');
+                    case 't' -> builder.append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > json.length) {
+                            throw malformed();
+                        }
+                        builder.append((char) Integer.parseInt(new String(json, pos, 4, StandardCharsets.US_ASCII), 16));
+                        pos += 4;
+                    }
+                    default -> throw malformed();
+                }
+                segmentStart = pos;
+            }
+        }
+    }
+
+    // A JSON null reads as an absent claim
+    private Integer readInt() {
+        Long value = readLong(false);
+        return value == null ? null : Math.toIntExact(value);
+    }
+
+    private Long readLong(boolean allowFraction) {
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        int start = pos;
+        boolean integral = true;
+        while (pos < json.length) {
+            byte b = json[pos];
+            if ((b >= '0' && b <= '9') || b == '-') {
+                pos++;
+            } else if (b == '.' || b == 'e' || b == 'E' || b == '+') {
+                integral = false;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if (start == pos) {
+            throw malformed();
+        }
+        String number = new String(json, start, pos - start, StandardCharsets.US_ASCII);
+        if (integral) {
+            return Long.parseLong(number);
+        }
+        double value = Double.parseDouble(number);
+        if (!allowFraction && value != Math.rint(value)) {
+            throw malformed();
+        }
+        return (long) Math.floor(value);
+    }
+
+    private void expectLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            expect(literal.charAt(i));
+        }
+    }
+
+    private void skipValue() {
+        byte b = peek();
+        if (b == '"') {
+            readString();
+            return;
+        }
+        if (b == '{' || b == '[') {
+            int depth = 0;
+            do {
+                byte c = peek();
+                if (c == '"') {
+                    readString();
+                    continue;
+                }
+                pos++;
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+            } while (depth > 0);
+            return;
+        }
+        // Number or literal
+        while (pos < json.length) {
+            byte c = json[pos];
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length) {
+            byte b = json[pos];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw malformed();
+        }
+    }
+
+    private byte peek() {
+        if (pos >= json.length) {
+            throw malformed();
+        }
+        return json[pos];
+    }
+
+    private byte next() {
+        if (pos >= json.length) {
+            throw malformed();
+        }
+        return json[pos++];
+    }
+
+    private static IllegalArgumentException malformed() {
+        return new IllegalArgumentException("Malformed token JSON");
+    }
+}
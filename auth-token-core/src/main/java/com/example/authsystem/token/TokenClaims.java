@@ -0,0 +1,23 @@
+package com.example.authsystem.token;
+
+// Claim names and values shared by the issuer (JwtService) and every verifier
+public final class TokenClaims {
+
+    public static final String SUBJECT = "sub";
+    public static final String ISSUED_AT = "iat";
+    public static final String EXPIRATION = "exp";
+    public static final String TOKEN_TYPE = "token_type";
+    public static final String USER_ID = "uid";
+    public static final String TOKEN_VERSION = "token_version";
+    public static final String PERMISSIONS = "perms";
+    public static final String ROLE = "role";
+    public static final String FULL_NAME = "fullName";
+    public static final String CLIENT_ID = "client_id";
+    public static final String SCOPE = "scope";
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    private TokenClaims() {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.authsystem.token;
+
+// JDK 21 Pattern matching for token type
+public sealed interface TokenType {
+
+    // Value of the token_type claim
+    String claimValue();
+
+    record AccessToken() implements TokenType {
+
+        @Override
+        public String claimValue() {
+            return TokenClaims.ACCESS;
+        }
+    }
+
+    record RefreshToken() implements TokenType {
+
+        @Override
+        public String claimValue() {
+            return TokenClaims.REFRESH;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.authsystem.token;
+
+import java.time.Instant;
+
+// JDK 21 Pattern matching for token validation result
+public sealed interface TokenValidationResult {
+
+    // permissions is the Permission bitmask claim, null for tokens minted without one
+    record Valid(String username, Integer permissions, Instant expiresAt) implements TokenValidationResult {
+
+    }
+
+    record Invalid(String reason) implements TokenValidationResult {
+
+    }
+
+    record Expired(String username) implements TokenValidationResult {
+
+    }
+
+    // Signature and expiry are fine, but the user's token version has moved on since it was minted
+    record Revoked(String username) implements TokenValidationResult {
+
+    }
+}
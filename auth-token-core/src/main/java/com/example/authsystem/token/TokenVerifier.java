@@ -0,0 +1,146 @@
+package com.example.authsystem.token;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+// Dependency-free verifier for the HS256 tokens minted by the auth system's JwtService.
+// Hot path: one HMAC over the signing input, one Base64url decode of the payload and a
+// single-pass claim scan; the (identical for every token) header is only parsed once.
+public final class TokenVerifier {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String JWT_ALGORITHM = "HS256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    // Lets callers plug in revocation, e.g. the auth system's cluster-wide token versions
+    @FunctionalInterface
+    public interface VersionCheck {
+
+        VersionCheck NONE = (userId, tokenVersion) -> true;
+
+        boolean isCurrent(long userId, int tokenVersion);
+    }
+
+    private final SecretKeySpec key;
+    private final Mac prototype;
+    private final Clock clock;
+    private final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    // Last header segment that passed validation; JwtService emits the same header for every token
+    private volatile String trustedHeader;
+
+    public TokenVerifier(byte[] key) {
+        this(key, Clock.systemUTC());
+    }
+
+    public TokenVerifier(byte[] key, Clock clock) {
+        if (key.length < MIN_KEY_BYTES) {
+            throw new IllegalArgumentException("HS256 keys must be at least 256 bits");
+        }
+        this.key = new SecretKeySpec(key, HMAC_ALGORITHM);
+        try {
+            this.prototype = Mac.getInstance(HMAC_ALGORITHM);
+            this.prototype.init(this.key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+        this.clock = clock;
+    }
+
+    public TokenValidationResult verify(String token) {
+        return verify(token, null, VersionCheck.NONE);
+    }
+
+    // expectedType null accepts any token type; resource servers should pass AccessToken
+    public TokenValidationResult verify(String token, TokenType expectedType, VersionCheck versionCheck) {
+        if (token == null) {
+            return new TokenValidationResult.Invalid("Missing token");
+        }
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return new TokenValidationResult.Invalid("Malformed token");
+        }
+
+        try {
+            // Compact JWTs are pure ASCII, so ISO-8859-1 is a byte-for-byte copy
+            byte[] ascii = token.getBytes(StandardCharsets.ISO_8859_1);
+
+            Mac mac = newMac();
+            mac.update(ascii, 0, payloadEnd);
+            byte[] expected = mac.doFinal();
+            ByteBuffer signature = decoder.decode(ByteBuffer.wrap(ascii, payloadEnd + 1, ascii.length - payloadEnd - 1));
+            byte[] actual = new byte[signature.remaining()];
+            signature.get(actual);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return new TokenValidationResult.Invalid("Signature mismatch");
+            }
+
+            if (!isTrustedHeader(token, headerEnd)) {
+                var header = ClaimsParser.parse(decode(ascii, 0, headerEnd));
+                if (!JWT_ALGORITHM.equals(header.algorithm())) {
+                    return new TokenValidationResult.Invalid("Unsupported algorithm: " + header.algorithm());
+                }
+                trustedHeader = token.substring(0, headerEnd);
+            }
+
+            var claims = ClaimsParser.parse(decode(ascii, headerEnd + 1, payloadEnd));
+            if (claims.expiresAt() == null) {
+                return new TokenValidationResult.Invalid("Missing exp claim");
+            }
+            if (clock.instant().getEpochSecond() >= claims.expiresAt()) {
+                return new TokenValidationResult.Expired(claims.subject());
+            }
+            if (expectedType != null && !expectedType.claimValue().equals(claims.tokenType())) {
+                return new TokenValidationResult.Invalid("Unexpected token type: " + claims.tokenType());
+            }
+            if (claims.userId() != null && !versionCheck.isCurrent(
+                    claims.userId(), claims.tokenVersion() == null ? 0 : claims.tokenVersion())) {
+                return new TokenValidationResult.Revoked(claims.subject());
+            }
+
+            return new TokenValidationResult.Valid(
+                    claims.subject(),
+                    claims.permissions(),
+                    Instant.ofEpochSecond(claims.expiresAt())
+            );
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return new TokenValidationResult.Invalid(e.getMessage());
+        }
+    }
+
+    private boolean isTrustedHeader(String token, int headerEnd) {
+        String trusted = trustedHeader;
+        return trusted != null && trusted.length() == headerEnd && token.startsWith(trusted);
+    }
+
+    private byte[] decode(byte[] ascii, int from, int to) {
+        ByteBuffer decoded = decoder.decode(ByteBuffer.wrap(ascii, from, to - from));
+        byte[] bytes = new byte[decoded.remaining()];
+        decoded.get(bytes);
+        return bytes;
+    }
+
+    // Cloning an initialised Mac skips provider lookup and key setup; not every provider supports it
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("HmacSHA256 not available", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.authsystem.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class TokenVerifierTest {
+
+    private static final byte[] KEY = "test-secret-key-that-is-at-least-256-bits-long".getBytes(StandardCharsets.UTF_8);
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final long EXP = NOW.getEpochSecond() + 3600;
+    private static final String HS256_HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+
+    private final TokenVerifier verifier = new TokenVerifier(KEY, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void acceptsWellFormedAccessToken() {
+        String token = sign(HS256_HEADER,
+                "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + ",\"token_type\":\"access\",\"uid\":42,\"token_version\":3,\"perms\":5}");
+
+        var valid = assertInstanceOf(TokenValidationResult.Valid.class, verify(token));
+        assertEquals("jane@example.com", valid.username());
+        assertEquals(5, valid.permissions());
+        assertEquals(Instant.ofEpochSecond(EXP), valid.expiresAt());
+    }
+
+    @Test
+    void rejectsWrongSignature() {
+        String token = sign(HS256_HEADER, "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + "}");
+        String other = signWith("another-secret-key-that-is-at-least-256-bits".getBytes(StandardCharsets.UTF_8),
+                HS256_HEADER, "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + "}");
+
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(other));
+        // Flipping a payload byte keeps the structure but breaks the MAC
+        String tampered = token.substring(0, token.indexOf('.') + 1) + 'x' + token.substring(token.indexOf('.') + 2);
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(tampered));
+    }
+
+    @Test
+    void rejectsAlgorithmOtherThanHs256() {
+        // Correctly MACed, so only the header check stands between it and Valid
+        String token = sign("{\"alg\":\"none\"}", "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + "}");
+        String hs512 = sign("{\"alg\":\"HS512\"}", "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + "}");
+
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(token));
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(hs512));
+    }
+
+    @Test
+    void reportsExpiredTokens() {
+        String atExpiry = sign(HS256_HEADER, "{\"sub\":\"jane@example.com\",\"exp\":" + NOW.getEpochSecond() + "}");
+        String missingExp = sign(HS256_HEADER, "{\"sub\":\"jane@example.com\"}");
+
+        var expired = assertInstanceOf(TokenValidationResult.Expired.class, verify(atExpiry));
+        assertEquals("jane@example.com", expired.username());
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(missingExp));
+    }
+
+    @Test
+    void rejectsTruncatedAndMalformedTokens() {
+        String token = sign(HS256_HEADER, "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + "}");
+
+        assertInstanceOf(TokenValidationResult.Invalid.class, verifier.verify(null));
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(""));
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(token.substring(0, token.lastIndexOf('.'))));
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(token.substring(0, token.length() - 5)));
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(token + ".extra"));
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify("@@@." + token.substring(token.indexOf('.') + 1)));
+
+        // Signed garbage must still come back Invalid rather than throw
+        for (String payload : new String[] {
+                "{\"sub\":\"jane@example.com\",\"exp\":" + EXP,
+                "{\"sub\":\"jane@example.com\" \"exp\":" + EXP + "}",
+                "{\"sub\":\"jane\\q\",\"exp\":" + EXP + "}",
+                "{\"sub\":\"jane\\u00",
+                "{\"sub\":\"jane\\uzzzz\",\"exp\":" + EXP + "}",
+                "{\"exp\":nul}",
+                "{\"exp\":}",
+                "[]",
+                ""
+        }) {
+            assertInstanceOf(TokenValidationResult.Invalid.class, verify(sign(HS256_HEADER, payload)), payload);
+        }
+    }
+
+    @Test
+    void decodesEscapedStrings() {
+        String token = sign(HS256_HEADER,
+                "{\"sub\":\"j\\\"a\\\\n\\/e\\u00e9\\u4e2d\\n\",\"exp\":" + EXP + ",\"note\":\"skip \\\"me\\\"\",\"token_type\":\"acc\\u0065ss\"}");
+
+        var valid = assertInstanceOf(TokenValidationResult.Valid.class, verifier.verify(
+                token, new TokenType.AccessToken(), TokenVerifier.VersionCheck.NONE));
+        assertEquals("j\"a\\n/eé中\n", valid.username());
+    }
+
+    @Test
+    void rejectsUnexpectedTokenType() {
+        String refresh = sign(HS256_HEADER, "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + ",\"token_type\":\"refresh\"}");
+        String untyped = sign(HS256_HEADER, "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + "}");
+
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(refresh));
+        assertInstanceOf(TokenValidationResult.Invalid.class, verify(untyped));
+        assertInstanceOf(TokenValidationResult.Valid.class, verifier.verify(
+                refresh, new TokenType.RefreshToken(), TokenVerifier.VersionCheck.NONE));
+        assertInstanceOf(TokenValidationResult.Valid.class, verifier.verify(refresh));
+    }
+
+    @Test
+    void treatsNullNumericClaimsAsAbsent() {
+        String token = sign(HS256_HEADER,
+                "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + ",\"token_type\":\"access\",\"uid\":null,\"token_version\":null,\"perms\":null}");
+
+        var valid = assertInstanceOf(TokenValidationResult.Valid.class, verify(token));
+        assertNull(valid.permissions());
+
+        String versionOnlyNull = sign(HS256_HEADER,
+                "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + ",\"token_type\":\"access\",\"uid\":7,\"token_version\":null}");
+        // A missing version is version 0, so the check still runs against it
+        assertInstanceOf(TokenValidationResult.Revoked.class, verifier.verify(
+                versionOnlyNull, new TokenType.AccessToken(), (userId, version) -> version != 0));
+    }
+
+    @Test
+    void rejectsNonIntegralAndOutOfRangeIntegerClaims() {
+        for (String claim : new String[] {
+                "\"perms\":1.5", "\"token_version\":2.5e0", "\"uid\":4.2", "\"perms\":4294967296", "\"uid\":99999999999999999999"
+        }) {
+            String token = sign(HS256_HEADER,
+                    "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + ",\"token_type\":\"access\"," + claim + "}");
+            assertInstanceOf(TokenValidationResult.Invalid.class, verify(token), claim);
+        }
+
+        // Integral values in exponent form are still whole numbers
+        String exponent = sign(HS256_HEADER,
+                "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + ",\"token_type\":\"access\",\"perms\":3.0,\"uid\":1e1}");
+        assertEquals(3, assertInstanceOf(TokenValidationResult.Valid.class, verify(exponent)).permissions());
+    }
+
+    @Test
+    void floorsFractionalExpiration() {
+        // RFC 7519 NumericDate allows fractions
+        String token = sign(HS256_HEADER,
+                "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + ".75,\"token_type\":\"access\"}");
+        String justExpired = sign(HS256_HEADER,
+                "{\"sub\":\"jane@example.com\",\"exp\":" + NOW.getEpochSecond() + ".5,\"token_type\":\"access\"}");
+
+        var valid = assertInstanceOf(TokenValidationResult.Valid.class, verify(token));
+        assertEquals(Instant.ofEpochSecond(EXP), valid.expiresAt());
+        assertInstanceOf(TokenValidationResult.Expired.class, verify(justExpired));
+    }
+
+    @Test
+    void rejectsRevokedTokenVersion() {
+        String token = sign(HS256_HEADER,
+                "{\"sub\":\"jane@example.com\",\"exp\":" + EXP + ",\"token_type\":\"access\",\"uid\":42,\"token_version\":3}");
+
+        assertInstanceOf(TokenValidationResult.Revoked.class, verifier.verify(
+                token, new TokenType.AccessToken(), (userId, version) -> userId == 42 && version == 4));
+        assertInstanceOf(TokenValidationResult.Valid.class, verifier.verify(
+                token, new TokenType.AccessToken(), (userId, version) -> userId == 42 && version == 3));
+    }
+
+    // Tokens minted with jjwt the way JwtService does must verify to the same claims jjwt reads back
+    @Test
+    void agreesWithJjwtOnTokensMintedLikeJwtService() {
+        SecretKey secretKey = Keys.hmacShaKeyFor(KEY);
+        var issuedAt = NOW.minusSeconds(60);
+
+        for (var type : new TokenType[] {new TokenType.AccessToken(), new TokenType.RefreshToken()}) {
+            var claims = Jwts.claims()
+                    .subject("jane.döe+\"quoted\"@example.com")
+                    .issuedAt(Date.from(issuedAt))
+                    .expiration(Date.from(issuedAt.plusSeconds(900)))
+                    .add(TokenClaims.TOKEN_TYPE, type.claimValue())
+                    .add(TokenClaims.USER_ID, 42L)
+                    .add(TokenClaims.TOKEN_VERSION, 3)
+                    .add(TokenClaims.PERMISSIONS, 0b1011)
+                    .add(TokenClaims.ROLE, "ADMIN")
+                    .add(TokenClaims.FULL_NAME, "Jane Döe \\ 中")
+                    .build();
+            String token = Jwts.builder()
+                    .claims(claims)
+                    .signWith(secretKey, Jwts.SIG.HS256)
+                    .compact();
+
+            Claims parsed = Jwts.parser().verifyWith(secretKey).clock(() -> Date.from(NOW)).build()
+                    .parseSignedClaims(token).getPayload();
+            var valid = assertInstanceOf(TokenValidationResult.Valid.class,
+                    verifier.verify(token, type, TokenVerifier.VersionCheck.NONE));
+            assertEquals(parsed.getSubject(), valid.username());
+            assertEquals(parsed.get(TokenClaims.PERMISSIONS, Integer.class), valid.permissions());
+            assertEquals(parsed.getExpiration().toInstant(), valid.expiresAt());
+
+            var wrongType = type instanceof TokenType.AccessToken ? new TokenType.RefreshToken() : new TokenType.AccessToken();
+            assertInstanceOf(TokenValidationResult.Invalid.class,
+                    verifier.verify(token, wrongType, TokenVerifier.VersionCheck.NONE));
+        }
+
+        String expired = Jwts.builder()
+                .subject("jane@example.com")
+                .expiration(Date.from(NOW.minusSeconds(1)))
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+        assertInstanceOf(TokenValidationResult.Expired.class, verifier.verify(expired));
+    }
+
+    private TokenValidationResult verify(String token) {
+        return verifier.verify(token, new TokenType.AccessToken(), TokenVerifier.VersionCheck.NONE);
+    }
+
+    private String sign(String header, String payload) {
+        return signWith(KEY, header, payload);
+    }
+
+    private String signWith(byte[] key, String header, String payload) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return signingInput + "." + encoder.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
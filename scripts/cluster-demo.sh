@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Starts one H2 TCP server and N application instances that share it, to exercise
+# cluster-wide token revocation through the user_change_log feed.
+#
+#   mvn package -DskipTests
+#   scripts/cluster-demo.sh [instances]      (instances listen on 8081, 8082, ...)
+#
+# Sign up on one port, promote/disable the user through /api/admin/users/{id}/... on
+# another, and the old token is rejected with "Token revoked" on every port within
+# app.jwt.token-version.poll-interval.
+set -euo pipefail
+
+INSTANCES="${1:-2}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$(ls "$ROOT"/auth-system-jdk21/target/*.jar | grep -v original | head -n 1)"
+H2_JAR="$(find "${HOME}/.m2/repository/com/h2database/h2" -name 'h2-*.jar' | sort | tail -n 1)"
+DATA_DIR="$ROOT/auth-system-jdk21/target/cluster"
+
+mkdir -p "$DATA_DIR"
+pids=()
+trap 'kill "${pids[@]}" 2>/dev/null || true' EXIT
+
+java -cp "$H2_JAR" org.h2.tools.Server -tcp -tcpPort 9092 -ifNotExists -baseDir "$DATA_DIR" &
+pids+=($!)
+sleep 1
+
+# The cluster profile only validates the schema, so the first instance creates it (update is a
+# no-op on an existing database) and the others start once it is healthy
+for ((i = 1; i <= INSTANCES; i++)); do
+    port=$((8080 + i))
+    ddl=()
+    [[ $i -eq 1 ]] && ddl=(--spring.jpa.hibernate.ddl-auto=update)
+    java --enable-preview -jar "$JAR" --spring.profiles.active=cluster --server.port="$port" "${ddl[@]}" \
+        > "$DATA_DIR/instance-$i.log" 2>&1 &
+    pids+=($!)
+    echo "instance $i -> http://localhost:$port (log: $DATA_DIR/instance-$i.log)"
+    if [[ $i -eq 1 ]]; then
+        until curl -sf -o /dev/null "http://localhost:$port/actuator/health"; do
+            kill -0 "${pids[-1]}" 2>/dev/null || { echo "instance 1 exited, see $DATA_DIR/instance-1.log" >&2; exit 1; }
+            sleep 0.2
+        done
+    fi
+done
+
+wait
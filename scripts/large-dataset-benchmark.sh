@@ -0,0 +1,26 @@
+#!/usr/bin/env bash
+# Repository/service latency and query plans at production-like sizes (UserRepositoryScaleBenchmark).
+#
+#   scripts/large-dataset-benchmark.sh [sizes] [threads]
+#   scripts/large-dataset-benchmark.sh 1000000,10000000,50000000 16
+#
+# Each size gets its own file-backed H2 database under auth-system-jdk21/target/bench-data; the first
+# run bulk-loads it (several GB per 10M users), later runs reuse it so numbers stay comparable.
+# JMH results (latency percentiles per operation) are written to target/bench-results.json.
+set -euo pipefail
+
+SIZES="${1:-1000000}"
+THREADS="${2:-8}"
+HEAP="${HEAP:-4g}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+MODULE="$ROOT/auth-system-jdk21"
+
+mvn -q -f "$ROOT/pom.xml" -Pbenchmark -pl auth-system-jdk21 -am test-compile dependency:build-classpath \
+    -Dmdep.includeScope=test -Dmdep.outputFile=target/bench.classpath
+
+cd "$MODULE"
+java --enable-preview -cp "target/test-classes:target/classes:$(cat target/bench.classpath)" \
+    org.openjdk.jmh.Main UserRepositoryScaleBenchmark \
+    -p userCount="$SIZES" -t "$THREADS" \
+    -jvmArgsAppend "--enable-preview -Xmx$HEAP -Dbench.data-dir=$MODULE/target/bench-data" \
+    -rf json -rff target/bench-results.json
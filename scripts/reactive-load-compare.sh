@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# Side-by-side load comparison of the servlet + virtual-thread build and the WebFlux/R2DBC build.
+#
+#   mvn package -DskipTests
+#   scripts/reactive-load-compare.sh [concurrency] [duration]      (requires `hey`)
+#
+# Each build is started alone on a fresh in-memory database and driven through the same three
+# scenarios: /login (BCrypt-bound), /refresh (token + one lookup) and GET /api/users/me
+# (filter + one lookup). Prints requests/sec and p99 latency per build and scenario.
+set -euo pipefail
+
+CONCURRENCY="${1:-200}"
+DURATION="${2:-30s}"
+PORT="${PORT:-18080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+BASE_URL="http://localhost:$PORT"
+CREDENTIALS='{"email":"load@example.com","password":"load-test-password"}'
+SIGNUP='{"firstName":"Load","lastName":"Test","email":"load@example.com","password":"load-test-password"}'
+
+command -v hey >/dev/null || { echo "hey not found: go install github.com/rakyll/hey@latest" >&2; exit 1; }
+
+jar_of() { ls "$ROOT/$1"/target/*.jar | grep -v original | head -n 1; }
+
+declare -A JARS=(
+    [servlet-vt]="$(jar_of auth-system-jdk21)"
+    [reactive]="$(jar_of auth-system-reactive)"
+)
+declare -A JVM_OPTS=(
+    [servlet-vt]="--enable-preview -Dapp.warmup.enabled=false -Dapp.limiter.enabled=false"
+    [reactive]=""
+)
+
+json_field() { sed -n "s/.*\"$1\":\"\([^\"]*\)\".*/\1/p"; }
+
+report() {
+    local build="$1" scenario="$2" out="$3"
+    local rps p99
+    rps=$(awk '/Requests\/sec/ {print $2}' <<<"$out")
+    p99=$(awk '/ 99% in / {print $3 * 1000}' <<<"$out")
+    printf '%-11s %-8s %10s req/s   p99 %8s ms\n' "$build" "$scenario" "$rps" "$p99"
+}
+
+for build in servlet-vt reactive; do
+    # shellcheck disable=SC2086
+    java ${JVM_OPTS[$build]} -Dserver.port="$PORT" -Dlogging.level.root=WARN \
+        -Dlogging.level.com.example.authsystem=WARN -jar "${JARS[$build]}" >/dev/null 2>&1 &
+    pid=$!
+    trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+    until curl -sf -o /dev/null "$BASE_URL/actuator/health"; do
+        kill -0 "$pid" 2>/dev/null || { echo "$build exited during startup" >&2; exit 1; }
+        sleep 0.2
+    done
+    curl -sf -o /dev/null -H 'Content-Type: application/json' -d "$SIGNUP" "$BASE_URL/api/auth/signup"
+    login=$(curl -sf -H 'Content-Type: application/json' -d "$CREDENTIALS" "$BASE_URL/api/auth/login")
+    access=$(json_field accessToken <<<"$login")
+    refresh=$(json_field refreshToken <<<"$login")
+
+    # Short unmeasured pass so both JITs reach steady state
+    hey -z 5s -c "$CONCURRENCY" -H "Authorization: Bearer $access" "$BASE_URL/api/users/me" >/dev/null
+
+    report "$build" login "$(hey -z "$DURATION" -c "$CONCURRENCY" -m POST -T application/json \
+        -d "$CREDENTIALS" "$BASE_URL/api/auth/login")"
+    report "$build" refresh "$(hey -z "$DURATION" -c "$CONCURRENCY" -m POST -T application/json \
+        -d "{\"refreshToken\":\"$refresh\"}" "$BASE_URL/api/auth/refresh")"
+    report "$build" me "$(hey -z "$DURATION" -c "$CONCURRENCY" \
+        -H "Authorization: Bearer $access" "$BASE_URL/api/users/me")"
+
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+done
@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Sharded users table on local H2 file databases, then an offline reshard from 2 to 4 shards.
+#
+#   mvn package -DskipTests
+#   scripts/sharding-demo.sh [users]
+#
+# 1. Starts on 2 shards, signs up USERS users and prints the rows per shard and their ids.
+# 2. Stops, copies everything into 4 new shards with app.sharding.reshard.from.
+# 3. Starts on the 4 shards and logs in as every user to show routing still finds them.
+set -euo pipefail
+
+USERS="${1:-20}"
+PORT="${PORT:-18080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$(ls "$ROOT"/auth-system-jdk21/target/*.jar | grep -v original | head -n 1)"
+H2_JAR="$(find "${HOME}/.m2/repository/com/h2database/h2" -name 'h2-*.jar' | sort | tail -n 1)"
+DATA_DIR="$ROOT/auth-system-jdk21/target/shards"
+BASE_URL="http://localhost:$PORT/api/auth"
+
+rm -rf "$DATA_DIR" && mkdir -p "$DATA_DIR"
+urls() {
+    local prefix="$1" n="$2" i list=()
+    for ((i = 0; i < n; i++)); do list+=("jdbc:h2:file:$DATA_DIR/$prefix$i"); done
+    (IFS=,; echo "${list[*]}")
+}
+OLD_URLS="$(urls old 2)"
+NEW_URLS="$(urls new 4)"
+
+start() {
+    java --enable-preview -jar "$JAR" --spring.profiles.active=sharded --app.sharding.urls="$1" \
+        --server.port="$PORT" --app.warmup.enabled=false "${@:2}" > "$DATA_DIR/app.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/actuator/health"; do
+        kill -0 "$pid" 2>/dev/null || { echo "application exited, see $DATA_DIR/app.log" >&2; exit 1; }
+        sleep 0.2
+    done
+}
+
+stop() { kill "$pid" && wait "$pid" 2>/dev/null || true; }
+
+show() {
+    local url
+    IFS=',' read -ra shard_urls <<<"$1"
+    for url in "${shard_urls[@]}"; do
+        printf '%s: ' "${url##*/}"
+        java -cp "$H2_JAR" org.h2.tools.Shell -url "$url" -user sa -password password \
+            -sql "select count(*) || ' users, ids ' || coalesce(min(id), 0) || '..' || coalesce(max(id), 0) from users" | sed -n 2p
+    done
+}
+
+echo "== 2 shards"
+start "$OLD_URLS"
+for ((i = 1; i <= USERS; i++)); do
+    curl -sf -o /dev/null -H 'Content-Type: application/json' "$BASE_URL/signup" \
+        -d "{\"firstName\":\"User\",\"lastName\":\"$i\",\"email\":\"user$i@example.com\",\"password\":\"password-$i\"}"
+done
+stop
+show "$OLD_URLS"
+
+echo "== resharding into 4 shards"
+java --enable-preview -jar "$JAR" --spring.profiles.active=sharded --app.sharding.urls="$NEW_URLS" \
+    --app.sharding.reshard.from="$OLD_URLS" --spring.main.web-application-type=none --app.warmup.enabled=false \
+    | grep -E "Resharding finished|ERROR" || true
+show "$NEW_URLS"
+
+echo "== logging in on 4 shards"
+start "$NEW_URLS"
+ok=0
+for ((i = 1; i <= USERS; i++)); do
+    curl -sf -o /dev/null -H 'Content-Type: application/json' "$BASE_URL/login" \
+        -d "{\"email\":\"user$i@example.com\",\"password\":\"password-$i\"}" && ok=$((ok + 1))
+done
+stop
+echo "$ok/$USERS logins succeeded"
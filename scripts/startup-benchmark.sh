@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# Measures wall-clock time from JVM launch to the first successful POST /api/auth/login.
+#
+#   mvn -Pfast-startup package -DskipTests [-Daot.profiles=...]
+#   scripts/startup-benchmark.sh [runs]
+#
+# Each mode is started RUNS times on a fresh in-memory database; the script signs up a
+# user as soon as the port answers, logs in, and reports the median per mode.
+set -euo pipefail
+
+RUNS="${1:-5}"
+# Must match -Daot.profiles of the build: conditional beans were fixed when the jar was AOT-processed
+AOT_PROFILES="${AOT_PROFILES:-fast-startup}"
+PORT="${PORT:-18080}"
+TARGET="$(cd "$(dirname "$0")/.." && pwd)/auth-system-jdk21/target"
+JAR="$(ls "$TARGET"/cds/*.jar 2>/dev/null | head -n 1)"
+
+if [[ -z "$JAR" ]]; then
+    echo "No extracted jar in $TARGET/cds, run: mvn -Pfast-startup package" >&2
+    exit 1
+fi
+
+BASE_URL="http://localhost:$PORT/api/auth"
+CREDENTIALS='{"email":"bench@example.com","password":"benchmark-password"}'
+SIGNUP='{"firstName":"Bench","lastName":"Mark","email":"bench@example.com","password":"benchmark-password"}'
+
+declare -A MODES=(
+    [default]=""
+    [aot]="-Dspring.aot.enabled=true -Dspring.profiles.active=$AOT_PROFILES"
+    [aot-cds]="-Dspring.aot.enabled=true -Dspring.profiles.active=$AOT_PROFILES -XX:SharedArchiveFile=$TARGET/cds/application.jsa"
+)
+
+now_ms() { date +%s%3N; }
+
+run_once() {
+    local opts="$1" start pid elapsed
+    start=$(now_ms)
+    # shellcheck disable=SC2086
+    java --enable-preview $opts -Dserver.port="$PORT" -Dlogging.level.root=WARN -jar "$JAR" >/dev/null 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null -H 'Content-Type: application/json' -d "$SIGNUP" "$BASE_URL/signup"; do
+        kill -0 "$pid" 2>/dev/null || { echo "application exited during startup" >&2; return 1; }
+        sleep 0.02
+    done
+    until curl -sf -o /dev/null -H 'Content-Type: application/json' -d "$CREDENTIALS" "$BASE_URL/login"; do
+        sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo "$elapsed"
+}
+
+for mode in default aot aot-cds; do
+    samples=()
+    for ((i = 1; i <= RUNS; i++)); do
+        samples+=("$(run_once "${MODES[$mode]}")")
+    done
+    median=$(printf '%s\n' "${samples[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR + 1) / 2)]}')
+    printf '%-8s median %5d ms   runs: %s\n' "$mode" "$median" "${samples[*]}"
+done
@@ -1,29 +0,0 @@
-package com.example.authsystem.dto;
-
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
-
-public class LoginRequest {
-    
-    @NotBlank(message = "Email is required")
-    @Email(message = "Email should be valid")
-    private String email;
-    
-    @NotBlank(message = "Password is required")
-    private String password;
-    
-    // Constructors
-    public LoginRequest() {}
-    
-    public LoginRequest(String email, String password) {
-        this.email = email;
-        this.password = password;
-    }
-    
-    // Getters and Setters
-    public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
-    
-    public String getPassword() { return password; }
-    public void setPassword(String password) { this.password = password; }
-}
\ No newline at end of file
@@ -1,52 +0,0 @@
-package com.example.authsystem.service;
-
-import java.util.List;
-import java.util.Optional;
-
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.stereotype.Service;
-
-import com.example.authsystem.entity.User;
-import com.example.authsystem.repository.UserRepository;
-
-@Service
-public class UserService implements UserDetailsService {
-    
-    private final UserRepository userRepository;
-    
-    public UserService(UserRepository userRepository) {
-        this.userRepository = userRepository;
-    }
-    
-    @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
-    }
-    
-    public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
-    }
-    
-    public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
-    }
-    
-    public User save(User user) {
-        return userRepository.save(user);
-    }
-    
-    public List<User> findAll() {
-        return userRepository.findAll();
-    }
-    
-    public Optional<User> findById(Long id) {
-        return userRepository.findById(id);
-    }
-    
-    public void deleteById(Long id) {
-        userRepository.deleteById(id);
-    }
-}
\ No newline at end of file